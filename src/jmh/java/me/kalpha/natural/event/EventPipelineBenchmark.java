@@ -0,0 +1,176 @@
+package me.kalpha.natural.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import me.kalpha.natural.user.User;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.hateoas.mediatype.MessageResolver;
+import org.springframework.hateoas.mediatype.hal.CurieProvider;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule;
+import org.springframework.hateoas.server.core.DefaultLinkRelationProvider;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventPipelineBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private static final int LINK_PAGE_SIZE = 100;
+
+    private ModelMapper modelMapper;
+
+    private EventMapper eventMapper;
+
+    private EventValidator eventValidator;
+
+    private ObjectMapper objectMapper;
+
+    private EventDto.CreateOrUpdate eventDto;
+
+    private Event event;
+
+    private PagedModel<EventModel> pagedModel;
+
+    private MockHttpServletRequest request;
+
+    private List<Event> linkPage;
+
+    @Setup
+    public void setUp() {
+        request = new MockHttpServletRequest("GET", "/api/events");
+        request.setServerPort(8000);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        modelMapper = new ModelMapper();
+        eventMapper = new EventMapper();
+        eventValidator = new EventValidator();
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .registerModule(new Jackson2HalModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        objectMapper.setHandlerInstantiator(new Jackson2HalModule.HalHandlerInstantiator(
+                new DefaultLinkRelationProvider(), CurieProvider.NONE, MessageResolver.DEFAULTS_ONLY));
+
+        eventDto = EventDto.CreateOrUpdate.builder()
+                .name("benchmark event")
+                .description("benchmarking the event request pipeline")
+                .beginEnrollmentDateTime(LocalDateTime.of(2018, 10, 15, 0, 0))
+                .closeEnrollmentDateTime(LocalDateTime.of(2018, 11, 3, 23, 59))
+                .beginEventDateTime(LocalDateTime.of(2018, 11, 10, 9, 0))
+                .endEventDateTime(LocalDateTime.of(2018, 11, 10, 14, 0))
+                .location("Inflean")
+                .basePrice(50000)
+                .maxPrice(10000)
+                .limitOfEnrollment(100)
+                .build();
+
+        User manager = User.builder().id(1).email("manager@email.com").build();
+        event = eventMapper.toEvent(eventDto);
+        event.setId(1);
+        event.setManager(manager);
+
+        List<EventModel> eventModels = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            Event pageEvent = eventMapper.toEvent(eventDto);
+            pageEvent.setId(i + 1);
+            pageEvent.setManager(manager);
+            eventModels.add(new EventModel(pageEvent));
+        }
+        pagedModel = new PagedModel<>(eventModels, new PagedModel.PageMetadata(PAGE_SIZE, 0, 1000));
+
+        linkPage = new ArrayList<>();
+        for (int i = 0; i < LINK_PAGE_SIZE; i++) {
+            Event pageEvent = eventMapper.toEvent(eventDto);
+            pageEvent.setId(i + 1);
+            pageEvent.setManager(manager);
+            linkPage.add(pageEvent);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public Event mapDtoWithModelMapper() {
+        return modelMapper.map(eventDto, Event.class);
+    }
+
+    @Benchmark
+    public Event mapDtoWithEventMapper() {
+        return eventMapper.toEvent(eventDto);
+    }
+
+    @Benchmark
+    public Errors validateEvent() {
+        Errors errors = new BeanPropertyBindingResult(event, "event");
+        eventValidator.validate(event, errors);
+        return errors;
+    }
+
+    @Benchmark
+    public Event updateEvent() {
+        event.update();
+        return event;
+    }
+
+    @Benchmark
+    public EventModel buildEventModel() {
+        return new EventModel(event);
+    }
+
+    @Benchmark
+    public List<Link> linkPageWithLinkBuilder() {
+        List<Link> links = new ArrayList<>(LINK_PAGE_SIZE);
+        for (Event pageEvent : linkPage) {
+            links.add(linkTo(EventController.class).slash(pageEvent.getId()).withSelfRel());
+        }
+        return links;
+    }
+
+    @Benchmark
+    public List<Link> linkPageWithEventLinks() {
+        request.removeAttribute(EventLinks.ATTRIBUTE);
+        List<Link> links = new ArrayList<>(LINK_PAGE_SIZE);
+        for (Event pageEvent : linkPage) {
+            links.add(EventLinks.current().self(pageEvent.getId()));
+        }
+        return links;
+    }
+
+    @Benchmark
+    public byte[] serializePagedModel() throws Exception {
+        return objectMapper.writeValueAsBytes(pagedModel);
+    }
+}
@@ -0,0 +1,17 @@
+package me.kalpha.natural.common;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app-cache")
+@Getter @Setter
+public class AppCacheProperties {
+
+    private String events = "maximumSize=10000,expireAfterWrite=10m";
+
+    private String users = "maximumSize=10000,expireAfterWrite=5m";
+
+}
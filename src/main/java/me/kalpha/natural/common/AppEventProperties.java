@@ -0,0 +1,45 @@
+package me.kalpha.natural.common;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "app-event")
+@Getter @Setter
+public class AppEventProperties {
+
+    private Duration lifecycleInterval = Duration.ofSeconds(30);
+
+    private Duration lifecycleLease = Duration.ofMinutes(2);
+
+    private int lifecycleBatchSize = 500;
+
+    private int enrollmentQuotaStripes = Runtime.getRuntime().availableProcessors();
+
+    private int enrollmentQuotaSize = 10_000;
+
+    private Duration enrollmentQuotaTtl = Duration.ofMinutes(1);
+
+    private int feedHistorySize = 10_000;
+
+    private int feedBufferSize = 256;
+
+    private int feedMaxSubscribers = 30_000;
+
+    private Duration feedHeartbeatInterval = Duration.ofSeconds(30);
+
+    private Duration feedTimeout = Duration.ofHours(1);
+
+    private Duration feedPollInterval = Duration.ofMillis(250);
+
+    private int feedPollBatchSize = 500;
+
+    private Duration feedGapTimeout = Duration.ofSeconds(2);
+
+    private Duration feedRetention = Duration.ofHours(1);
+
+}
@@ -0,0 +1,29 @@
+package me.kalpha.natural.common;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "app-outbox")
+@Getter @Setter
+public class AppOutboxProperties {
+
+    private Duration interval = Duration.ofSeconds(1);
+
+    private Duration lease = Duration.ofSeconds(30);
+
+    private int batchSize = 100;
+
+    private Duration retention = Duration.ofDays(7);
+
+    private int maxAttempts = 10;
+
+    private Duration backoff = Duration.ofSeconds(1);
+
+    private Duration maxBackoff = Duration.ofMinutes(10);
+
+}
@@ -5,6 +5,8 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Component
 @ConfigurationProperties(prefix = "app-security")
 @Getter @Setter
@@ -22,4 +24,20 @@ public class AppSecurityProperties {
 
     private String userPassword;
 
+    private String tokenMode = "jdbc";
+
+    private String jwtSigningKey;
+
+    private Duration tokenCacheTimeToLive = Duration.ofMinutes(1);
+
+    private long tokenCacheMaximumSize = 10000;
+
+    private int passwordHashStrength = 10;
+
+    private int passwordHashThreads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    private int passwordHashQueueCapacity = 100;
+
+    private Duration passwordHashTimeout = Duration.ofSeconds(5);
+
 }
@@ -0,0 +1,176 @@
+package me.kalpha.natural.common;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.oauth2.common.OAuth2AccessToken;
+import org.springframework.security.oauth2.common.OAuth2RefreshToken;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.token.TokenStore;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Date;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class CachingTokenStore implements TokenStore, MeterBinder, DisposableBean {
+
+    private final TokenStore delegate;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final Cache<String, CachedAccessToken> accessTokens;
+
+    public CachingTokenStore(TokenStore delegate, Duration timeToLive, long maximumSize) {
+        this.delegate = delegate;
+        // owned here rather than published as a bean, so it does not stand in for Boot's applicationTaskExecutor
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("token-cache-"));
+        this.accessTokens = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry(timeToLive))
+                .scheduler(Scheduler.forScheduledExecutorService(scheduler))
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, accessTokens, "oauth-access-tokens");
+    }
+
+    @Override
+    public OAuth2Authentication readAuthentication(OAuth2AccessToken token) {
+        return readAuthentication(token.getValue());
+    }
+
+    @Override
+    public OAuth2Authentication readAuthentication(String token) {
+        CachedAccessToken cached = read(token);
+        return cached == null ? null : cached.authentication;
+    }
+
+    @Override
+    public OAuth2AccessToken readAccessToken(String tokenValue) {
+        CachedAccessToken cached = read(tokenValue);
+        return cached == null ? null : cached.accessToken;
+    }
+
+    @Override
+    public void storeAccessToken(OAuth2AccessToken token, OAuth2Authentication authentication) {
+        delegate.storeAccessToken(token, authentication);
+        accessTokens.put(token.getValue(), new CachedAccessToken(token, authentication));
+    }
+
+    @Override
+    public void removeAccessToken(OAuth2AccessToken token) {
+        delegate.removeAccessToken(token);
+        accessTokens.invalidate(token.getValue());
+    }
+
+    @Override
+    public void storeRefreshToken(OAuth2RefreshToken refreshToken, OAuth2Authentication authentication) {
+        delegate.storeRefreshToken(refreshToken, authentication);
+    }
+
+    @Override
+    public OAuth2RefreshToken readRefreshToken(String tokenValue) {
+        return delegate.readRefreshToken(tokenValue);
+    }
+
+    @Override
+    public OAuth2Authentication readAuthenticationForRefreshToken(OAuth2RefreshToken token) {
+        return delegate.readAuthenticationForRefreshToken(token);
+    }
+
+    @Override
+    public void removeRefreshToken(OAuth2RefreshToken token) {
+        delegate.removeRefreshToken(token);
+    }
+
+    @Override
+    public void removeAccessTokenUsingRefreshToken(OAuth2RefreshToken refreshToken) {
+        delegate.removeAccessTokenUsingRefreshToken(refreshToken);
+        accessTokens.asMap().values().removeIf(cached -> cached.accessToken.getRefreshToken() != null
+                && refreshToken.getValue().equals(cached.accessToken.getRefreshToken().getValue()));
+    }
+
+    @Override
+    public OAuth2AccessToken getAccessToken(OAuth2Authentication authentication) {
+        return delegate.getAccessToken(authentication);
+    }
+
+    @Override
+    public Collection<OAuth2AccessToken> findTokensByClientIdAndUserName(String clientId, String userName) {
+        return delegate.findTokensByClientIdAndUserName(clientId, userName);
+    }
+
+    @Override
+    public Collection<OAuth2AccessToken> findTokensByClientId(String clientId) {
+        return delegate.findTokensByClientId(clientId);
+    }
+
+    private CachedAccessToken read(String tokenValue) {
+        return accessTokens.get(tokenValue, value -> {
+            OAuth2AccessToken accessToken = delegate.readAccessToken(value);
+            if (accessToken == null) {
+                return null;
+            }
+            OAuth2Authentication authentication = delegate.readAuthentication(value);
+            return authentication == null ? null : new CachedAccessToken(accessToken, authentication);
+        });
+    }
+
+    static class CachedAccessToken {
+
+        private final OAuth2AccessToken accessToken;
+
+        private final OAuth2Authentication authentication;
+
+        CachedAccessToken(OAuth2AccessToken accessToken, OAuth2Authentication authentication) {
+            this.accessToken = accessToken;
+            this.authentication = authentication;
+        }
+    }
+
+    private static class TokenExpiry implements Expiry<String, CachedAccessToken> {
+
+        private final long timeToLiveNanos;
+
+        TokenExpiry(Duration timeToLive) {
+            this.timeToLiveNanos = timeToLive.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(String key, CachedAccessToken value, long currentTime) {
+            Date expiration = value.accessToken.getExpiration();
+            if (expiration == null) {
+                return timeToLiveNanos;
+            }
+            long untilExpiration = TimeUnit.MILLISECONDS.toNanos(expiration.getTime() - System.currentTimeMillis());
+            return Math.max(0, Math.min(timeToLiveNanos, untilExpiration));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedAccessToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedAccessToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
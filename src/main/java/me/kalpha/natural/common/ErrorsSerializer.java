@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import org.springframework.boot.jackson.JsonComponent;
 import org.springframework.validation.Errors;
+import org.springframework.validation.ObjectError;
 
 import java.io.IOException;
 
@@ -32,6 +33,12 @@ public class ErrorsSerializer extends JsonSerializer<Errors> {
                 throw new RuntimeException(e1);
             }
         });
+        for (ObjectError e : errors.getGlobalErrors()) {
+            jsonGenerator.writeStartObject();
+            jsonGenerator.writeStringField("objectName", e.getObjectName());
+            jsonGenerator.writeStringField("defaultMessage", e.getDefaultMessage());
+            jsonGenerator.writeEndObject();
+        }
         jsonGenerator.writeEndArray();
     }
 }
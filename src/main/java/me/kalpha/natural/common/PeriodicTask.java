@@ -0,0 +1,29 @@
+package me.kalpha.natural.common;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a background job on its own thread with a fixed delay between runs. The executor stays private: a bean of an
+ * {@code Executor} type would stop Boot from creating {@code applicationTaskExecutor}, which MVC async relies on.
+ */
+public final class PeriodicTask implements DisposableBean {
+
+    private final ScheduledExecutorService scheduler;
+
+    public PeriodicTask(String name, Runnable task, Duration interval) {
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory(name + "-"));
+        long delay = interval.toMillis();
+        scheduler.scheduleWithFixedDelay(task, delay, delay, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,58 @@
+package me.kalpha.natural.common;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Time-bound ownership of a named background job, shared by every node through the {@code scheduler_lease} table.
+ * The owner renews the lease on each run; another node takes over once it has expired.
+ */
+@Component
+@Slf4j
+public class SchedulerLease {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final String owner;
+
+    @Autowired
+    public SchedulerLease(JdbcTemplate jdbcTemplate) {
+        this(jdbcTemplate, ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID());
+    }
+
+    SchedulerLease(JdbcTemplate jdbcTemplate, String owner) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.owner = owner;
+    }
+
+    public boolean tryAcquire(String name, Duration duration) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plus(duration);
+        int renewed = jdbcTemplate.update("UPDATE scheduler_lease SET owner = ?, lease_until = ?"
+                + " WHERE name = ? AND (owner = ? OR lease_until < ?)", owner, until, name, owner, now);
+        if (renewed == 1) {
+            return true;
+        }
+
+        try {
+            jdbcTemplate.update("INSERT INTO scheduler_lease (name, owner, lease_until) VALUES (?, ?, ?)",
+                    name, owner, until);
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Lease {} is held by another node", name);
+            return false;
+        }
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+}
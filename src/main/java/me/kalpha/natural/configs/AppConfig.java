@@ -1,6 +1,16 @@
 package me.kalpha.natural.configs;
 
+import me.kalpha.natural.common.AppEventProperties;
+import me.kalpha.natural.common.AppOutboxProperties;
+import me.kalpha.natural.common.PeriodicTask;
+import me.kalpha.natural.event.EventChangeFeed;
+import me.kalpha.natural.event.EventLifecycle;
+import me.kalpha.natural.outbox.LoggingOutboxSink;
+import me.kalpha.natural.outbox.OutboxDispatcher;
+import me.kalpha.natural.outbox.OutboxSink;
 import org.modelmapper.ModelMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -12,4 +22,30 @@ public class AppConfig {
         return new ModelMapper();
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = "app-event", name = "lifecycle-enabled", havingValue = "true", matchIfMissing = true)
+    public PeriodicTask eventLifecycleScheduler(EventLifecycle eventLifecycle, AppEventProperties appEventProperties) {
+        return new PeriodicTask("event-lifecycle", eventLifecycle::run, appEventProperties.getLifecycleInterval());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app-event", name = "feed-poll-enabled", havingValue = "true", matchIfMissing = true)
+    public PeriodicTask eventChangeFeedScheduler(EventChangeFeed eventChangeFeed,
+                                                 AppEventProperties appEventProperties) {
+        return new PeriodicTask("event-change-feed", eventChangeFeed::run, appEventProperties.getFeedPollInterval());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public OutboxSink outboxSink() {
+        return new LoggingOutboxSink();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app-outbox", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public PeriodicTask outboxDispatcherScheduler(OutboxDispatcher outboxDispatcher,
+                                                  AppOutboxProperties appOutboxProperties) {
+        return new PeriodicTask("outbox-dispatcher", outboxDispatcher::run, appOutboxProperties.getInterval());
+    }
+
 }
@@ -0,0 +1,35 @@
+package me.kalpha.natural.configs;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import me.kalpha.natural.common.AppCacheProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Arrays;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String EVENTS = "events";
+
+    public static final String USERS = "users";
+
+    @Bean
+    public CacheManager cacheManager(AppCacheProperties appCacheProperties) {
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(Arrays.asList(
+                caffeineCache(EVENTS, appCacheProperties.getEvents()),
+                caffeineCache(USERS, appCacheProperties.getUsers())
+        ));
+        return cacheManager;
+    }
+
+    private CaffeineCache caffeineCache(String name, String spec) {
+        return new CaffeineCache(name, Caffeine.from(spec).recordStats().build(), false);
+    }
+}
@@ -0,0 +1,33 @@
+package me.kalpha.natural.configs;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The deprecated encoders among the {@code PasswordEncoderFactories} ids, kept only to verify old hashes.
+ * They are named in full because on Java 8 importing a deprecated type warns even under {@code @SuppressWarnings}.
+ */
+@SuppressWarnings("deprecation")
+final class LegacyPasswordEncoders {
+
+    private LegacyPasswordEncoders() {
+    }
+
+    static Map<String, PasswordEncoder> all() {
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put("ldap", new org.springframework.security.crypto.password.LdapShaPasswordEncoder());
+        encoders.put("MD4", new org.springframework.security.crypto.password.Md4PasswordEncoder());
+        encoders.put("MD5", messageDigest("MD5"));
+        encoders.put("noop", org.springframework.security.crypto.password.NoOpPasswordEncoder.getInstance());
+        encoders.put("SHA-1", messageDigest("SHA-1"));
+        encoders.put("SHA-256", messageDigest("SHA-256"));
+        encoders.put("sha256", new org.springframework.security.crypto.password.StandardPasswordEncoder());
+        return encoders;
+    }
+
+    private static PasswordEncoder messageDigest(String algorithm) {
+        return new org.springframework.security.crypto.password.MessageDigestPasswordEncoder(algorithm);
+    }
+}
@@ -1,5 +1,6 @@
 package me.kalpha.natural.configs;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -7,14 +8,19 @@ import org.springframework.security.oauth2.config.annotation.web.configuration.E
 import org.springframework.security.oauth2.config.annotation.web.configuration.ResourceServerConfigurerAdapter;
 import org.springframework.security.oauth2.config.annotation.web.configurers.ResourceServerSecurityConfigurer;
 import org.springframework.security.oauth2.provider.error.OAuth2AccessDeniedHandler;
+import org.springframework.security.oauth2.provider.token.TokenStore;
 
 @Configuration
 @EnableResourceServer
 public class ResourceServerConfig extends ResourceServerConfigurerAdapter {
 
+    @Autowired
+    private TokenStore tokenStore;
+
     @Override
     public void configure(ResourceServerSecurityConfigurer resources) throws Exception {
-        resources.resourceId("natural");
+        resources.resourceId("natural")
+                .tokenStore(tokenStore);
     }
 
     @Override
@@ -27,6 +33,8 @@ public class ResourceServerConfig extends ResourceServerConfigurerAdapter {
                 .mvcMatchers(HttpMethod.POST, "/api/**").authenticated()
                 .mvcMatchers(HttpMethod.PUT, "/api/**").authenticated()
                 .mvcMatchers(HttpMethod.DELETE, "/api/**").authenticated()
+                .mvcMatchers("/actuator/health", "/actuator/info").permitAll()
+                .mvcMatchers("/actuator/**").hasRole("ADMIN")
                 .and()
             .exceptionHandling()
                 .accessDeniedHandler(new OAuth2AccessDeniedHandler());
@@ -1,6 +1,11 @@
 package me.kalpha.natural.configs;
 
+import me.kalpha.natural.common.AppSecurityProperties;
+import me.kalpha.natural.common.BoundedPasswordEncoder;
+import me.kalpha.natural.common.CachingTokenStore;
+import me.kalpha.natural.user.UserAdapterAuthenticationConverter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -10,27 +15,79 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.security.oauth2.provider.token.TokenStore;
-import org.springframework.security.oauth2.provider.token.store.InMemoryTokenStore;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+import org.springframework.security.crypto.scrypt.SCryptPasswordEncoder;
+import org.springframework.security.oauth2.provider.token.DefaultAccessTokenConverter;
+import org.springframework.security.oauth2.provider.token.store.JdbcTokenStore;
+import org.springframework.security.oauth2.provider.token.store.JwtAccessTokenConverter;
+import org.springframework.security.oauth2.provider.token.store.JwtTokenStore;
+import org.springframework.util.Assert;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
 
 @Configuration
 @EnableWebSecurity
 @EnableGlobalMethodSecurity(prePostEnabled = true, securedEnabled = true)
 public class SecurityConfig extends WebSecurityConfigurerAdapter {
 
+    private static final String BCRYPT = "bcrypt";
+
     @Autowired
     UserDetailsService userDetailsService;
 
+    @Autowired
+    AppSecurityProperties appSecurityProperties;
+
+    /**
+     * Same ids as {@code PasswordEncoderFactories}, so hashes stored under any of them still verify,
+     * but new hashes use bcrypt at the configured strength.
+     */
+    @Bean
+    public BoundedPasswordEncoder passwordEncoder(AppSecurityProperties appSecurityProperties) {
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(BCRYPT, new BCryptPasswordEncoder(appSecurityProperties.getPasswordHashStrength()));
+        encoders.putAll(LegacyPasswordEncoders.all());
+        encoders.put("pbkdf2", new Pbkdf2PasswordEncoder());
+        encoders.put("scrypt", new SCryptPasswordEncoder());
+        encoders.put("argon2", new Argon2PasswordEncoder());
+        return new BoundedPasswordEncoder(new DelegatingPasswordEncoder(BCRYPT, encoders),
+                appSecurityProperties.getPasswordHashThreads(),
+                appSecurityProperties.getPasswordHashQueueCapacity(),
+                appSecurityProperties.getPasswordHashTimeout());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app-security", name = "token-mode", havingValue = "jdbc", matchIfMissing = true)
+    public CachingTokenStore tokenStore(DataSource dataSource, AppSecurityProperties appSecurityProperties) {
+        return new CachingTokenStore(new JdbcTokenStore(dataSource),
+                appSecurityProperties.getTokenCacheTimeToLive(),
+                appSecurityProperties.getTokenCacheMaximumSize());
+    }
+
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    @ConditionalOnProperty(prefix = "app-security", name = "token-mode", havingValue = "jwt")
+    public JwtAccessTokenConverter accessTokenConverter(AppSecurityProperties appSecurityProperties) {
+        Assert.hasText(appSecurityProperties.getJwtSigningKey(), "app-security.jwt-signing-key is required in jwt token mode");
+
+        DefaultAccessTokenConverter accessTokenConverter = new DefaultAccessTokenConverter();
+        accessTokenConverter.setUserTokenConverter(new UserAdapterAuthenticationConverter());
+
+        JwtAccessTokenConverter jwtAccessTokenConverter = new JwtAccessTokenConverter();
+        jwtAccessTokenConverter.setSigningKey(appSecurityProperties.getJwtSigningKey());
+        jwtAccessTokenConverter.setAccessTokenConverter(accessTokenConverter);
+        return jwtAccessTokenConverter;
     }
 
     @Bean
-    public TokenStore tokenStore() {
-        return new InMemoryTokenStore();
+    @ConditionalOnProperty(prefix = "app-security", name = "token-mode", havingValue = "jwt")
+    public JwtTokenStore jwtTokenStore(JwtAccessTokenConverter accessTokenConverter) {
+        return new JwtTokenStore(accessTokenConverter);
     }
 
     @Bean
@@ -42,7 +99,7 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
     @Override
     protected void configure(AuthenticationManagerBuilder auth) throws Exception {
         auth.userDetailsService(userDetailsService)
-                .passwordEncoder(passwordEncoder());
+                .passwordEncoder(passwordEncoder(appSecurityProperties));
     }
 
     @Override
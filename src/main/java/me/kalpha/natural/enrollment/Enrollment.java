@@ -0,0 +1,25 @@
+package me.kalpha.natural.enrollment;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Getter @Setter @EqualsAndHashCode(of = "id")
+@Builder @NoArgsConstructor @AllArgsConstructor
+public class Enrollment {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    Long id;
+
+    @Column(nullable = false)
+    Integer eventId;
+
+    @Column(nullable = false)
+    Integer userId;
+
+    @Column(nullable = false)
+    LocalDateTime enrolledAt;
+}
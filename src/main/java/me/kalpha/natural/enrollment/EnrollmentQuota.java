@@ -0,0 +1,59 @@
+package me.kalpha.natural.enrollment;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local view of the seats left for one event, split over several counters so that concurrent sign-ups
+ * rarely retry on the same one. A permit only admits the request to the database check; it never
+ * confirms a seat by itself.
+ */
+class EnrollmentQuota {
+
+    private final int limit;
+
+    private final AtomicInteger[] stripes;
+
+    EnrollmentQuota(int limit, int remaining, int stripeCount) {
+        this.limit = limit;
+        this.stripes = new AtomicInteger[Math.max(1, stripeCount)];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new AtomicInteger(remaining / stripes.length + (i < remaining % stripes.length ? 1 : 0));
+        }
+    }
+
+    int getLimit() {
+        return limit;
+    }
+
+    boolean tryAcquire() {
+        int start = ThreadLocalRandom.current().nextInt(stripes.length);
+        for (int i = 0; i < stripes.length; i++) {
+            AtomicInteger stripe = stripes[(start + i) % stripes.length];
+            for (int left = stripe.get(); left > 0; left = stripe.get()) {
+                if (stripe.compareAndSet(left, left - 1)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    void release() {
+        stripes[ThreadLocalRandom.current().nextInt(stripes.length)].incrementAndGet();
+    }
+
+    void exhaust() {
+        for (AtomicInteger stripe : stripes) {
+            stripe.set(0);
+        }
+    }
+
+    int remaining() {
+        int remaining = 0;
+        for (AtomicInteger stripe : stripes) {
+            remaining += stripe.get();
+        }
+        return remaining;
+    }
+}
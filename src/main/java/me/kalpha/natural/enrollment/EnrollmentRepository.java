@@ -0,0 +1,10 @@
+package me.kalpha.natural.enrollment;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
+
+    boolean existsByEventIdAndUserId(Integer eventId, Integer userId);
+
+    long countByEventId(Integer eventId);
+}
@@ -0,0 +1,146 @@
+package me.kalpha.natural.enrollment;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import me.kalpha.natural.common.AppEventProperties;
+import me.kalpha.natural.event.Event;
+import me.kalpha.natural.user.User;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Enrolls users in events without oversell. Each node first takes a permit from its local {@link EnrollmentQuota},
+ * so once an event is full the rush is turned away in memory. Admitted requests then claim a seat with one
+ * conditional update of the event's {@code enrollment_count} row, which stays the single source of truth across nodes.
+ * Enrollments without a limit are counted in the same row, so the count is right if a limit is set later.
+ */
+@Service
+public class EnrollmentService {
+
+    private static final String CLAIM_SEAT = "UPDATE enrollment_count SET enrolled = enrolled + 1"
+            + " WHERE event_id = ? AND enrolled < (SELECT limit_of_enrollment FROM event WHERE id = ?)";
+
+    private static final String COUNT_SEAT = "UPDATE enrollment_count SET enrolled = enrolled + 1 WHERE event_id = ?";
+
+    private static final String SEED_COUNT = "INSERT INTO enrollment_count (event_id, enrolled)"
+            + " SELECT ?, COUNT(*) FROM enrollment WHERE event_id = ?"
+            + " HAVING NOT EXISTS (SELECT 1 FROM enrollment_count WHERE event_id = ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final EnrollmentRepository enrollmentRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final AppEventProperties appEventProperties;
+
+    private final Cache<Integer, EnrollmentQuota> quotas;
+
+    private final Counter accepted;
+
+    private final Counter full;
+
+    public EnrollmentService(JdbcTemplate jdbcTemplate, EnrollmentRepository enrollmentRepository,
+                             PlatformTransactionManager transactionManager, AppEventProperties appEventProperties,
+                             MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enrollmentRepository = enrollmentRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.appEventProperties = appEventProperties;
+        this.quotas = Caffeine.newBuilder()
+                .maximumSize(appEventProperties.getEnrollmentQuotaSize())
+                .expireAfterWrite(appEventProperties.getEnrollmentQuotaTtl())
+                .build();
+        this.accepted = meterRegistry.counter("event.enrollments", "result", "accepted");
+        this.full = meterRegistry.counter("event.enrollments", "result", "full");
+    }
+
+    /**
+     * @return the new enrollment, or empty when the event is full
+     * @throws DataIntegrityViolationException when the user is already enrolled
+     */
+    public Optional<Enrollment> enroll(Event event, User user) {
+        Integer limit = event.getLimitOfEnrollment();
+        if (limit == null || limit == 0) {
+            seedCount(event.getId());
+            Enrollment enrollment = transactionTemplate.execute(status -> {
+                jdbcTemplate.update(COUNT_SEAT, event.getId());
+                return save(event, user);
+            });
+            accepted.increment();
+            return Optional.of(enrollment);
+        }
+
+        EnrollmentQuota quota = quota(event.getId(), limit);
+        if (!quota.tryAcquire()) {
+            full.increment();
+            return Optional.empty();
+        }
+
+        Enrollment enrollment;
+        try {
+            enrollment = transactionTemplate.execute(status ->
+                    jdbcTemplate.update(CLAIM_SEAT, event.getId(), event.getId()) == 1 ? save(event, user) : null);
+        } catch (RuntimeException e) {
+            quota.release();
+            throw e;
+        }
+        if (enrollment == null) {
+            // another node took the last seats
+            quota.exhaust();
+            full.increment();
+            return Optional.empty();
+        }
+        accepted.increment();
+        return Optional.of(enrollment);
+    }
+
+    int remaining(Integer eventId) {
+        EnrollmentQuota quota = quotas.getIfPresent(eventId);
+        return quota == null ? -1 : quota.remaining();
+    }
+
+    private EnrollmentQuota quota(Integer eventId, int limit) {
+        EnrollmentQuota quota = quotas.get(eventId, id -> load(id, limit));
+        if (quota.getLimit() != limit) {
+            quotas.invalidate(eventId);
+            quota = quotas.get(eventId, id -> load(id, limit));
+        }
+        return quota;
+    }
+
+    private EnrollmentQuota load(Integer eventId, int limit) {
+        seedCount(eventId);
+        Integer enrolled = jdbcTemplate.queryForObject(
+                "SELECT enrolled FROM enrollment_count WHERE event_id = ?", Integer.class, eventId);
+        return new EnrollmentQuota(limit, Math.max(0, limit - enrolled), appEventProperties.getEnrollmentQuotaStripes());
+    }
+
+    /**
+     * Creates the event's count row from the enrollments it already has. Runs on its own, outside the enrollment
+     * transaction, so a lost insert race is just a duplicate key.
+     */
+    private void seedCount(Integer eventId) {
+        try {
+            jdbcTemplate.update(SEED_COUNT, eventId, eventId, eventId);
+        } catch (DataIntegrityViolationException e) {
+            // counted already
+        }
+    }
+
+    private Enrollment save(Event event, User user) {
+        return enrollmentRepository.saveAndFlush(Enrollment.builder()
+                .eventId(event.getId())
+                .userId(user.getId())
+                .enrolledAt(LocalDateTime.now())
+                .build());
+    }
+}
@@ -0,0 +1,30 @@
+package me.kalpha.natural.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.validation.Errors;
+
+import java.util.List;
+
+@Getter
+public class BulkCreateModel extends RepresentationModel<BulkCreateModel> {
+
+    private final int created;
+
+    private final List<ItemErrors> errors;
+
+    public BulkCreateModel(int created, List<ItemErrors> errors) {
+        this.created = created;
+        this.errors = errors;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class ItemErrors {
+
+        private final int index;
+
+        private final Errors content;
+    }
+}
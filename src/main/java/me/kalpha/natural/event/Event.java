@@ -1,25 +1,38 @@
 package me.kalpha.natural.event;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.*;
 import me.kalpha.natural.user.User;
 import me.kalpha.natural.user.UserSerializer;
+import org.hibernate.annotations.Type;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
+@NamedEntityGraph(name = Event.WITH_MANAGER, attributeNodes = @NamedAttributeNode("manager"))
 @Getter @Setter @EqualsAndHashCode(of = "id")
 @Builder @NoArgsConstructor @AllArgsConstructor
 public class Event {
 
-    @Id @GeneratedValue
+    public static final String WITH_MANAGER = "Event.withManager";
+
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_seq")
+    @SequenceGenerator(name = "event_seq", sequenceName = "event_seq", allocationSize = ID_ALLOCATION_SIZE)
     Integer id;
 
+    @JsonIgnore
+    @Version
+    Integer version;
+
     @Column(nullable = false)
     String name;
 
-    @Lob
+    @Type(type = "org.hibernate.type.TextType")
     String description;
 
     LocalDateTime beginEnrollmentDateTime;
@@ -38,10 +51,8 @@ public class Event {
 
     Integer limitOfEnrollment;
 
-    @Transient
     boolean free;
 
-    @Transient
     boolean offLine;
 
     @Enumerated(EnumType.STRING)
@@ -52,16 +63,18 @@ public class Event {
     User manager;
 
     public void update() {
-        if (this.maxPrice == null || this.maxPrice == 0) {
-            this.free = true;
-        }
-        if (this.location != null && !this.location.trim().isEmpty()) {
-            this.offLine = true;
-        }
+        this.free = this.maxPrice == null || this.maxPrice == 0;
+        this.offLine = this.location != null && !this.location.trim().isEmpty();
     }
 
     public void update(User currentUser) {
         this.update();
         this.manager = currentUser;
     }
+
+    public boolean acceptsEnrollment(LocalDateTime now) {
+        return (eventStatus == EventStatus.PUBLISHED || eventStatus == EventStatus.BEGAN_ENROLLMENT)
+                && (beginEnrollmentDateTime == null || !now.isBefore(beginEnrollmentDateTime))
+                && (closeEnrollmentDateTime == null || now.isBefore(closeEnrollmentDateTime));
+    }
 }
@@ -0,0 +1,17 @@
+package me.kalpha.natural.event;
+
+import lombok.Getter;
+import org.springframework.hateoas.CollectionModel;
+
+import java.util.List;
+
+@Getter
+public class EventBatchModel extends CollectionModel<EventModel> {
+
+    private final List<Integer> missing;
+
+    public EventBatchModel(List<EventModel> events, List<Integer> missing) {
+        super(events);
+        this.missing = missing;
+    }
+}
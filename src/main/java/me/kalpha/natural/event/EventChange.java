@@ -0,0 +1,31 @@
+package me.kalpha.natural.event;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class EventChange {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED, STATUS_CHANGED
+    }
+
+    private final long sequence;
+
+    private final Type type;
+
+    private final Integer eventId;
+
+    private final EventStatus eventStatus;
+
+    private final LocalDateTime changedAt;
+
+    EventChange(long sequence, Type type, Integer eventId, EventStatus eventStatus, LocalDateTime changedAt) {
+        this.sequence = sequence;
+        this.type = type;
+        this.eventId = eventId;
+        this.eventStatus = eventStatus;
+        this.changedAt = changedAt;
+    }
+}
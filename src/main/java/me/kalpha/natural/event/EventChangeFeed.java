@@ -0,0 +1,245 @@
+package me.kalpha.natural.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import me.kalpha.natural.common.AppEventProperties;
+import me.kalpha.natural.configs.CacheConfig;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Feed of event changes made on any node. Every change is written to the shared {@code event_change} table, whose
+ * id is the sequence, and every node polls the table and pushes new rows to its own subscribers in id order, so a
+ * sequence means the same change on every node and a subscriber can resume on any of them. Writers only insert;
+ * even the writing node delivers its own changes from the next poll, so a write never waits on the subscribers.
+ * Polling also evicts every changed event from this node's events cache, so a change made on one node does not
+ * leave the others serving the old event until it expires. Every subscriber gets
+ * its own bounded buffer and is cut off when it falls that far behind, so one slow reader never holds memory for
+ * the others.
+ */
+@Component
+@Slf4j
+public class EventChangeFeed {
+
+    private static final Duration PURGE_INTERVAL = Duration.ofMinutes(1);
+
+    private static final String COLUMNS = "SELECT id, type, event_id, event_status, changed_at FROM event_change";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Set<FluxSink<EventChange>> subscribers = ConcurrentHashMap.newKeySet();
+
+    private final AppEventProperties appEventProperties;
+
+    private final Cache eventCache;
+
+    private final Counter evicted;
+
+    private final Flux<Long> heartbeat;
+
+    /**
+     * Highest sequence pushed to the subscribers of this node.
+     */
+    private long delivered;
+
+    /**
+     * When polling first stopped at a sequence gap that has not been filled yet.
+     */
+    private LocalDateTime gapSince;
+
+    private LocalDateTime purgedAt = LocalDateTime.now();
+
+    public EventChangeFeed(JdbcTemplate jdbcTemplate, AppEventProperties appEventProperties,
+                           CacheManager cacheManager, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.appEventProperties = appEventProperties;
+        this.eventCache = cacheManager.getCache(CacheConfig.EVENTS);
+        this.evicted = meterRegistry.counter("event.feed.evicted");
+        this.heartbeat = Flux.interval(appEventProperties.getFeedHeartbeatInterval()).share();
+        this.delivered = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM event_change", Long.class);
+        meterRegistry.gauge("event.feed.subscribers", subscribers, Set::size);
+    }
+
+    public void created(Event event) {
+        publish(EventChange.Type.CREATED, event.getId(), event.getEventStatus());
+    }
+
+    public void created(List<Event> events) {
+        publish(events.stream()
+                .map(e -> row(EventChange.Type.CREATED, e.getId(), e.getEventStatus()))
+                .collect(Collectors.toList()));
+    }
+
+    public void updated(Event event) {
+        publish(EventChange.Type.UPDATED, event.getId(), event.getEventStatus());
+    }
+
+    public void deleted(Integer id) {
+        publish(EventChange.Type.DELETED, id, null);
+    }
+
+    public void statusChanged(Integer id, EventStatus eventStatus) {
+        publish(EventChange.Type.STATUS_CHANGED, id, eventStatus);
+    }
+
+    public void statusChanged(List<Integer> ids, EventStatus eventStatus) {
+        publish(ids.stream()
+                .map(id -> row(EventChange.Type.STATUS_CHANGED, id, eventStatus))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Changes after {@code after}, followed by live changes. Null starts with live changes only.
+     * Ends with an overflow error once the subscriber falls more than the buffer size behind.
+     */
+    public Flux<EventChange> subscribe(Long after) {
+        int bufferSize = appEventProperties.getFeedBufferSize();
+        return Flux.<EventChange>create(sink -> {
+            List<EventChange> missed;
+            synchronized (this) {
+                // catch up with the table first, so live changes start from the latest one
+                poll();
+                if (after != null && !canResumeAfter(after)) {
+                    sink.error(new IllegalStateException("Changes after " + after + " are no longer available"));
+                    return;
+                }
+                missed = after == null || after >= delivered
+                        ? Collections.emptyList()
+                        : jdbcTemplate.query(COLUMNS + " WHERE id > ? AND id <= ? ORDER BY id",
+                                this::change, after, delivered);
+                subscribers.add(sink);
+            }
+            sink.onDispose(() -> subscribers.remove(sink));
+            missed.forEach(sink::next);
+        }, FluxSink.OverflowStrategy.IGNORE)
+                // resumed on a node that has not polled up to the client's sequence yet
+                .filter(change -> after == null || change.getSequence() > after)
+                .onBackpressureBuffer(bufferSize, change -> {
+                    evicted.increment();
+                    log.debug("Evicted a change feed subscriber {} changes behind", bufferSize);
+                }, BufferOverflowStrategy.ERROR);
+    }
+
+    public Flux<Long> heartbeat() {
+        return heartbeat;
+    }
+
+    /**
+     * Whether every change after {@code after} is still in the table, and few enough of them to replay.
+     */
+    public boolean canResumeAfter(long after) {
+        List<long[]> range = jdbcTemplate.query("SELECT MIN(id), MAX(id) FROM event_change",
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)});
+        long first = range.get(0)[0];
+        long last = range.get(0)[1];
+        if (last == 0) {
+            // empty table: nothing can be replayed
+            return after == lastSequence();
+        }
+        return after >= first - 1 && after <= last && last - after <= appEventProperties.getFeedHistorySize();
+    }
+
+    public boolean isFull() {
+        return subscribers.size() >= appEventProperties.getFeedMaxSubscribers();
+    }
+
+    public synchronized long lastSequence() {
+        return delivered;
+    }
+
+    /**
+     * Pushes changes written by any node since the last poll to this node's subscribers, in sequence order,
+     * and evicts the changed events from this node's cache.
+     * Sequence ids are taken before their rows commit, so a missing id may still show up; polling waits at such
+     * a gap for up to {@code feed-gap-timeout} before treating the id as rolled back and moving past it.
+     *
+     * @return the number of changes pushed
+     */
+    public synchronized int poll() {
+        List<EventChange> changes = jdbcTemplate.query(COLUMNS + " WHERE id > ? ORDER BY id LIMIT ?",
+                this::change, delivered, appEventProperties.getFeedPollBatchSize());
+        int pushed = 0;
+        for (EventChange change : changes) {
+            if (change.getSequence() != delivered + 1) {
+                LocalDateTime now = LocalDateTime.now();
+                if (gapSince == null) {
+                    gapSince = now;
+                }
+                if (Duration.between(gapSince, now).compareTo(appEventProperties.getFeedGapTimeout()) < 0) {
+                    break;
+                }
+                log.debug("Skipping change sequences {} to {}", delivered + 1, change.getSequence() - 1);
+            }
+            gapSince = null;
+            delivered = change.getSequence();
+            eventCache.evict(change.getEventId());
+            for (FluxSink<EventChange> subscriber : subscribers) {
+                subscriber.next(change);
+            }
+            pushed++;
+        }
+        return pushed;
+    }
+
+    public void run() {
+        try {
+            poll();
+            LocalDateTime now = LocalDateTime.now();
+            if (purgedAt.isBefore(now.minus(PURGE_INTERVAL))) {
+                purgedAt = now;
+                purge(now.minus(appEventProperties.getFeedRetention()));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Event change feed poll failed", e);
+        }
+    }
+
+    public int purge(LocalDateTime before) {
+        return jdbcTemplate.update("DELETE FROM event_change WHERE changed_at < ?", Timestamp.valueOf(before));
+    }
+
+    int subscriberCount() {
+        return subscribers.size();
+    }
+
+    private void publish(EventChange.Type type, Integer eventId, EventStatus eventStatus) {
+        publish(Collections.singletonList(row(type, eventId, eventStatus)));
+    }
+
+    private void publish(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO event_change (type, event_id, event_status, changed_at) VALUES (?, ?, ?, ?)", rows);
+    }
+
+    private Object[] row(EventChange.Type type, Integer eventId, EventStatus eventStatus) {
+        return new Object[]{type.name(), eventId, eventStatus == null ? null : eventStatus.name(),
+                Timestamp.valueOf(LocalDateTime.now())};
+    }
+
+    private EventChange change(ResultSet rs, int rowNum) throws SQLException {
+        String eventStatus = rs.getString("event_status");
+        return new EventChange(rs.getLong("id"), EventChange.Type.valueOf(rs.getString("type")), rs.getInt("event_id"),
+                eventStatus == null ? null : EventStatus.valueOf(eventStatus),
+                rs.getTimestamp("changed_at").toLocalDateTime());
+    }
+}
@@ -1,82 +1,304 @@
 package me.kalpha.natural.event;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
+import me.kalpha.natural.common.AppEventProperties;
 import me.kalpha.natural.common.ErrorModel;
+import me.kalpha.natural.enrollment.Enrollment;
+import me.kalpha.natural.enrollment.EnrollmentRepository;
+import me.kalpha.natural.enrollment.EnrollmentService;
 import me.kalpha.natural.user.CurrentUser;
 import me.kalpha.natural.user.User;
 import me.kalpha.natural.user.UserRole;
-import org.modelmapper.ModelMapper;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.PagedModel;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.validation.BindingResult;
+import org.springframework.validation.MapBindingResult;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
 
 import javax.validation.Valid;
+import javax.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping(value = "/api/events")
 @Slf4j
 public class EventController {
 
-    private final ModelMapper modelMapper;
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+
+    public static final int MAX_BATCH_IDS = 100;
+
+    public static final int MAX_BULK_ITEMS = 1000;
+
+    private final EventMapper eventMapper;
 
     private final EventRepository eventRepository;
 
+    private final EventService eventService;
+
     private final EventValidator eventValidator;
 
-    public EventController(ModelMapper modelMapper, EventRepository eventRepository, EventValidator eventValidator) {
-        this.modelMapper = modelMapper;
+    private final SpringValidatorAdapter beanValidator;
+
+    private final ObjectMapper objectMapper;
+
+    private final EnrollmentRepository enrollmentRepository;
+
+    private final EnrollmentService enrollmentService;
+
+    private final EventChangeFeed eventChangeFeed;
+
+    private final AppEventProperties appEventProperties;
+
+    public EventController(EventMapper eventMapper, EventRepository eventRepository, EventService eventService,
+                           EventValidator eventValidator, Validator beanValidator, ObjectMapper objectMapper,
+                           EnrollmentRepository enrollmentRepository, EnrollmentService enrollmentService,
+                           EventChangeFeed eventChangeFeed, AppEventProperties appEventProperties) {
+        this.eventMapper = eventMapper;
         this.eventRepository = eventRepository;
+        this.eventService = eventService;
         this.eventValidator = eventValidator;
+        this.beanValidator = new SpringValidatorAdapter(beanValidator);
+        this.objectMapper = objectMapper;
+        this.enrollmentRepository = enrollmentRepository;
+        this.enrollmentService = enrollmentService;
+        this.eventChangeFeed = eventChangeFeed;
+        this.appEventProperties = appEventProperties;
     }
 
     @GetMapping
-    public ResponseEntity all(Pageable pageable, PagedResourcesAssembler<Event> assembler, @CurrentUser User currentUser) {
+    public ResponseEntity all(EventFilter filter, Pageable pageable, PagedResourcesAssembler<Event> assembler,
+                              PagedResourcesAssembler<EventSummary> summaryAssembler,
+                              @RequestParam(defaultValue = "false") boolean fullBody,
+                              @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                              @CurrentUser User currentUser) {
         if (currentUser == null) {
             log.debug("Current user doesn't exist");
         } else {
             log.debug("Current user {} {}", currentUser.getId(), currentUser.getEmail());
         }
 
-        Page<Event> events = eventRepository.findAll(pageable);
-        PagedModel pagedModel = assembler.toModel(events, e -> new EventModel(e));
+        String eTag;
+        PagedModel pagedModel;
+        if (fullBody) {
+            Page<Event> events = eventRepository.findAll(filter, pageable);
+            eTag = EventETags.ofEvents(events, currentUser);
+            if (EventETags.noneMatch(ifNoneMatch, eTag)) {
+                return notModifiedResponse(eTag);
+            }
+            pagedModel = assembler.toModel(events, e -> new EventModel(e));
+        } else {
+            Page<EventSummary> summaries = eventRepository.findAllSummaries(filter, pageable);
+            eTag = EventETags.ofSummaries(summaries, currentUser);
+            if (EventETags.noneMatch(ifNoneMatch, eTag)) {
+                return notModifiedResponse(eTag);
+            }
+            EventLinks links = EventLinks.current();
+            pagedModel = summaryAssembler.toModel(summaries, s -> new EntityModel<>(s, links.self(s.getId())));
+        }
         if (currentUser != null) {
-            pagedModel.add(linkTo(methodOn(EventController.class).create(null, null, null)).withRel("create-new-event"));
+            pagedModel.add(EventLinks.current().createEvent());
         }
         pagedModel.add(linkToProfile("resources-events-list"));
-        return ResponseEntity.ok().body(pagedModel);
+        return ResponseEntity.ok().eTag(eTag).body(pagedModel);
+    }
+
+    @GetMapping(params = {"after", "!ids"})
+    public ResponseEntity allAfter(@RequestParam String after, EventFilter filter, Pageable pageable,
+                                   @CurrentUser User currentUser) {
+        EventCursor cursor;
+        try {
+            cursor = after.isEmpty() ? EventCursor.first(pageable.getSort()) : EventCursor.decode(after);
+        } catch (IllegalArgumentException e) {
+            log.debug("Rejected keyset cursor {}", after, e);
+            return ResponseEntity.badRequest().build();
+        }
+
+        int size = pageable.getPageSize();
+        List<Event> events = eventRepository.findAllAfter(filter, cursor, size + 1);
+        boolean hasNext = events.size() > size;
+        if (hasNext) {
+            events = events.subList(0, size);
+        }
+
+        List<EventModel> eventModels = events.stream().map(EventModel::new).collect(Collectors.toList());
+        CollectionModel<EventModel> collectionModel = new CollectionModel<>(eventModels);
+        collectionModel.add(new Link(ServletUriComponentsBuilder.fromCurrentRequest().toUriString()));
+        if (hasNext) {
+            String next = cursor.next(events.get(events.size() - 1)).encode();
+            collectionModel.add(EventLinks.current().next(next, size));
+        }
+        if (currentUser != null) {
+            collectionModel.add(EventLinks.current().createEvent());
+        }
+        collectionModel.add(linkToProfile("resources-events-list-keyset"));
+        return ResponseEntity.ok().body(collectionModel);
+    }
+
+    @GetMapping(params = {"ids", "after"})
+    public ResponseEntity allByIdAfter() {
+        // a batch is not paged, so a cursor has nothing to continue
+        return ResponseEntity.badRequest().build();
+    }
+
+    @GetMapping(params = {"ids", "!after"})
+    public ResponseEntity allById(@RequestParam List<Integer> ids) {
+        LinkedHashSet<Integer> distinctIds = new LinkedHashSet<>(ids);
+        distinctIds.remove(null);
+        if (distinctIds.isEmpty() || distinctIds.size() > MAX_BATCH_IDS) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        Map<Integer, Event> events = eventService.getEvents(distinctIds);
+        List<EventModel> eventModels = events.values().stream().map(EventModel::new).collect(Collectors.toList());
+        List<Integer> missing = distinctIds.stream().filter(id -> !events.containsKey(id)).collect(Collectors.toList());
+        EventBatchModel batchModel = new EventBatchModel(eventModels, missing);
+        batchModel.add(new Link(ServletUriComponentsBuilder.fromCurrentRequest().toUriString()));
+        batchModel.add(linkToProfile("resources-events-multi-get"));
+        return ResponseEntity.ok().body(batchModel);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity search(@RequestParam String q, Pageable pageable, @CurrentUser User currentUser) {
+        if (q.trim().isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        Slice<EventSummary> summaries = eventRepository.search(q.trim(), pageable);
+        EventLinks links = EventLinks.current();
+        List<EntityModel<EventSummary>> models = summaries.stream()
+                .map(s -> new EntityModel<>(s, links.self(s.getId())))
+                .collect(Collectors.toList());
+        CollectionModel<EntityModel<EventSummary>> collectionModel = new CollectionModel<>(models);
+        collectionModel.add(new Link(ServletUriComponentsBuilder.fromCurrentRequest().toUriString()));
+        if (summaries.hasNext()) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("page", summaries.getNumber() + 1)
+                    .toUriString();
+            collectionModel.add(new Link(next, IanaLinkRelations.NEXT));
+        }
+        if (currentUser != null) {
+            collectionModel.add(links.createEvent());
+        }
+        collectionModel.add(linkToProfile("resources-events-search"));
+        return ResponseEntity.ok().body(collectionModel);
+    }
+
+    @GetMapping(value = "/export", produces = NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export() {
+        StreamingResponseBody body = outputStream -> {
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            try {
+                eventService.forEachEvent(event -> writeLine(generator, event));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            generator.close();
+        };
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON_VALUE)).body(body);
+    }
+
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<Flux<ServerSentEvent<EventChange>>> changes(
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+            @RequestParam(required = false) Long after) {
+        Long from = lastEventId != null ? lastEventId : after;
+        if (from != null && !eventChangeFeed.canResumeAfter(from)) {
+            return ResponseEntity.status(HttpStatus.GONE).build();
+        }
+        if (eventChangeFeed.isFull()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+
+        Flux<ServerSentEvent<EventChange>> changes = eventChangeFeed.subscribe(from)
+                .map(change -> ServerSentEvent.builder(change)
+                        .id(String.valueOf(change.getSequence()))
+                        .event(change.getType().name())
+                        .build())
+                .onErrorResume(Exceptions::isOverflow,
+                        e -> Flux.just(ServerSentEvent.<EventChange>builder().event("evicted").build()));
+        Flux<ServerSentEvent<EventChange>> heartbeat = eventChangeFeed.heartbeat()
+                .map(tick -> ServerSentEvent.<EventChange>builder().comment("").build());
+        // MVC streams a Flux without an async timeout; end it after feed-timeout so clients reconnect and spread out
+        return ResponseEntity.ok(changes.mergeWith(heartbeat)
+                .takeUntil(sse -> "evicted".equals(sse.event()))
+                .take(appEventProperties.getFeedTimeout()));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity get(@PathVariable Integer id, @CurrentUser User currentUser) {
-        Optional<Event> byId = eventRepository.findById(id);
+    public ResponseEntity get(@PathVariable Integer id,
+                              @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                              @CurrentUser User currentUser) {
+        Optional<Event> byId;
+        if (ifNoneMatch != null) {
+            Optional<EventRepository.VersionView> version = eventService.getVersion(id);
+            if (!version.isPresent()) {
+                return notFoundResponse();
+            }
+            String eTag = EventETags.of(id, version.get().getVersion(), version.get().getManagerId(), currentUser);
+            if (EventETags.noneMatch(ifNoneMatch, eTag)) {
+                return notModifiedResponse(eTag);
+            }
+            // the client's copy is out of date, so answer with at least the version just compared against
+            byId = eventService.getEvent(id, version.get().getVersion());
+        } else {
+            byId = eventService.getEvent(id);
+        }
         if (!byId.isPresent()) {
             return notFoundResponse();
         }
 
         Event event = byId.get();
+        EventLinks links = EventLinks.current();
         EventModel eventModel = new EventModel(event);
-
-        eventModel.add(linkTo(EventController.class).withRel("get-events"));
+        eventModel.add(links.events());
         if (currentUser != null) {
-            eventModel.add(linkTo(EventController.class).withRel("create-new-event"));
+            eventModel.add(links.createEvent());
             if (currentUser.getRoles().contains(UserRole.ADMIN) || currentUser.equals(event.getManager())) {
-                eventModel.add(linkToUpdate(event));
-                eventModel.add(linkToDelete(event));
+                eventModel.add(links.update(event.getId()));
+                eventModel.add(links.delete(event.getId()));
             }
         }
         eventModel.add(linkToProfile("resources-events-get"));
-        return ResponseEntity.ok().body(eventModel);
+        return ResponseEntity.ok().eTag(EventETags.of(event, currentUser)).body(eventModel);
     }
 
     @PostMapping
@@ -87,7 +309,7 @@ public class EventController {
             return badRequestResponse(errors);
         }
 
-        Event event = modelMapper.map(eventCreate, Event.class);
+        Event event = eventMapper.toEvent(eventCreate);
         event.update(currentUser);
 
         eventValidator.validate(event, errors);
@@ -95,21 +317,90 @@ public class EventController {
             return badRequestResponse(errors);
         }
 
-        Event newEvent = eventRepository.save(event);
+        Event newEvent = eventService.createEvent(event);
+        eventChangeFeed.created(newEvent);
+        EventLinks links = EventLinks.current();
         EventModel eventModel = new EventModel(newEvent);
-        eventModel.add(linkTo(EventController.class).withRel("get-events"));
+        eventModel.add(links.events());
         eventModel.add(linkToProfile("resources-events-create"));
-        eventModel.add(linkToUpdate(newEvent));
-        eventModel.add(linkToDelete(newEvent));
+        eventModel.add(links.update(newEvent.getId()));
+        eventModel.add(links.delete(newEvent.getId()));
 
-        URI newEventLocation = linkTo(methodOn(this.getClass()).get(newEvent.getId(), null)).toUri();
+        URI newEventLocation = links.uri(newEvent.getId());
         return ResponseEntity.created(newEventLocation).body(eventModel);
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity createBulk(InputStream body, @CurrentUser User currentUser) throws IOException {
+        List<EventDto.CreateOrUpdate> eventCreates;
+        try {
+            eventCreates = readBulk(body);
+        } catch (JsonProcessingException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (eventCreates == null) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        }
+
+        List<Event> events = new ArrayList<>(eventCreates.size());
+        List<BulkCreateModel.ItemErrors> itemErrors = new ArrayList<>();
+        for (int i = 0; i < eventCreates.size(); i++) {
+            EventDto.CreateOrUpdate eventCreate = eventCreates.get(i);
+            if (eventCreate == null) {
+                BindingResult errors = new MapBindingResult(new HashMap<>(), "createOrUpdate");
+                errors.reject("nullItem", "Item must not be null");
+                itemErrors.add(new BulkCreateModel.ItemErrors(i, errors));
+                continue;
+            }
+            BindingResult errors = new BeanPropertyBindingResult(eventCreate, "createOrUpdate");
+            beanValidator.validate(eventCreate, errors);
+            if (!errors.hasErrors()) {
+                Event event = eventMapper.toEvent(eventCreate);
+                event.update(currentUser);
+                eventValidator.validate(event, errors);
+                if (!errors.hasErrors()) {
+                    events.add(event);
+                    continue;
+                }
+            }
+            itemErrors.add(new BulkCreateModel.ItemErrors(i, errors));
+        }
+
+        eventChangeFeed.created(eventService.createEvents(events));
+        BulkCreateModel bulkCreateModel = new BulkCreateModel(events.size(), itemErrors);
+        bulkCreateModel.add(EventLinks.current().events());
+        bulkCreateModel.add(linkToProfile("resources-events-create-bulk"));
+        if (events.isEmpty() && !itemErrors.isEmpty()) {
+            return ResponseEntity.badRequest().body(bulkCreateModel);
+        }
+        return ResponseEntity.ok().body(bulkCreateModel);
+    }
+
+    /**
+     * 배열을 한 항목씩 읽어 MAX_BULK_ITEMS 를 넘으면 나머지 본문을 읽지 않고 null 을 반환한다.
+     */
+    private List<EventDto.CreateOrUpdate> readBulk(InputStream body) throws IOException {
+        List<EventDto.CreateOrUpdate> eventCreates = new ArrayList<>();
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected a JSON array");
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (eventCreates.size() == MAX_BULK_ITEMS) {
+                    return null;
+                }
+                eventCreates.add(parser.currentToken() == JsonToken.VALUE_NULL
+                        ? null : objectMapper.readValue(parser, EventDto.CreateOrUpdate.class));
+            }
+        }
+        return eventCreates;
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity update(@PathVariable Integer id,
                                  @Valid @RequestBody EventDto.CreateOrUpdate eventDto,
                                  BindingResult errors,
+                                 @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
                                  @CurrentUser User currentUser) {
         if (errors.hasErrors()) {
             return badRequestResponse(errors);
@@ -124,22 +415,32 @@ public class EventController {
         if (!currentUser.equals(event.getManager()) && !currentUser.getRoles().contains(UserRole.ADMIN)) {
             return new ResponseEntity(HttpStatus.FORBIDDEN);
         }
+        if (ifMatch != null && !EventETags.match(ifMatch, EventETags.of(event, currentUser))) {
+            return new ResponseEntity(HttpStatus.PRECONDITION_FAILED);
+        }
 
-        modelMapper.map(eventDto, event);
+        eventMapper.copy(eventDto, event);
         event.update();
 
         eventValidator.validate(event, errors);
         if (errors.hasErrors()) {
             return badRequestResponse(errors);
         }
-        eventRepository.save(event);
+        try {
+            event = eventService.updateEvent(event);
+            eventChangeFeed.updated(event);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            log.debug("Rejected concurrent update of event {}", id, e);
+            return new ResponseEntity(HttpStatus.PRECONDITION_FAILED);
+        }
 
+        EventLinks links = EventLinks.current();
         EventModel eventModel = new EventModel(event);
-        eventModel.add(linkTo(EventController.class).withRel("get-events"));
-        eventModel.add(linkTo(EventController.class).withRel("create-new-event"));
-        eventModel.add(linkToDelete(event));
+        eventModel.add(links.events());
+        eventModel.add(links.createEvent());
+        eventModel.add(links.delete(event.getId()));
         eventModel.add(linkToProfile("resources-events-update"));
-        return ResponseEntity.ok().body(eventModel);
+        return ResponseEntity.ok().eTag(EventETags.of(event, currentUser)).body(eventModel);
     }
 
 
@@ -156,24 +457,106 @@ public class EventController {
             return new ResponseEntity(HttpStatus.FORBIDDEN);
         }
 
-        eventRepository.deleteById(id);
+        eventService.deleteEvent(id);
+        eventChangeFeed.deleted(id);
+        EventLinks links = EventLinks.current();
         EventModel eventModel = new EventModel(event);
-        eventModel.add(linkTo(EventController.class).withRel("get-events"));
-        eventModel.add(linkTo(EventController.class).withRel("create-new-event"));
+        eventModel.add(links.events());
+        eventModel.add(links.createEvent());
         eventModel.add(linkToProfile("resources-events-delete"));
 
         return ResponseEntity.ok().body(eventModel);
     }
 
     @PostMapping("/{id}/publish")
-    public ResponseEntity publish(@PathVariable Integer id) {
-        throw new UnsupportedOperationException();
+    public ResponseEntity publish(@PathVariable Integer id, @CurrentUser User currentUser) {
+        Optional<Event> byId = this.eventRepository.findById(id);
+        if (!byId.isPresent()) {
+            return notFoundResponse();
+        }
+
+        Event event = byId.get();
+        if (!currentUser.equals(event.getManager()) && !currentUser.getRoles().contains(UserRole.ADMIN)) {
+            return new ResponseEntity(HttpStatus.FORBIDDEN);
+        }
+        if (event.getEventStatus() != EventStatus.DRAFT) {
+            BindingResult errors = new BeanPropertyBindingResult(event, "event");
+            errors.rejectValue("eventStatus", "notDraft", "Only draft events can be published");
+            return badRequestResponse(errors);
+        }
+
+        try {
+            event = eventService.publishEvent(event);
+            eventChangeFeed.statusChanged(id, event.getEventStatus());
+        } catch (ObjectOptimisticLockingFailureException e) {
+            log.debug("Rejected concurrent publish of event {}", id, e);
+            return new ResponseEntity(HttpStatus.PRECONDITION_FAILED);
+        }
+
+        EventLinks links = EventLinks.current();
+        EventModel eventModel = new EventModel(event);
+        eventModel.add(links.events());
+        eventModel.add(links.update(event.getId()));
+        eventModel.add(linkToProfile("resources-events-publish"));
+        return ResponseEntity.ok().eTag(EventETags.of(event, currentUser)).body(eventModel);
+    }
+
+    @PostMapping("/{id}/enrollments")
+    public ResponseEntity enroll(@PathVariable Integer id, @CurrentUser User currentUser) {
+        Optional<Event> byId = this.eventRepository.findById(id);
+        if (!byId.isPresent()) {
+            return notFoundResponse();
+        }
+
+        Event event = byId.get();
+        BindingResult errors = new BeanPropertyBindingResult(event, "event");
+        if (!event.acceptsEnrollment(LocalDateTime.now())) {
+            errors.rejectValue("eventStatus", "notEnrolling", "The event is not open for enrollment");
+            return badRequestResponse(errors);
+        }
+        if (enrollmentRepository.existsByEventIdAndUserId(id, currentUser.getId())) {
+            return alreadyEnrolledResponse(errors);
+        }
+
+        Optional<Enrollment> enrollment;
+        try {
+            enrollment = enrollmentService.enroll(event, currentUser);
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Rejected duplicate enrollment of user {} in event {}", currentUser.getId(), id, e);
+            return alreadyEnrolledResponse(errors);
+        }
+        if (!enrollment.isPresent()) {
+            errors.rejectValue("limitOfEnrollment", "full", "The event is fully booked");
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(new ErrorModel(errors));
+        }
+
+        EntityModel<Enrollment> enrollmentModel = new EntityModel<>(enrollment.get(),
+                EventLinks.current().event(id), linkToProfile("resources-events-enroll"));
+        return ResponseEntity.status(HttpStatus.CREATED).body(enrollmentModel);
+    }
+
+    private void writeLine(JsonGenerator generator, Event event) {
+        try {
+            objectMapper.writeValue(generator, event);
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ResponseEntity<Object> notModifiedResponse(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
     }
 
     private ResponseEntity<Object> notFoundResponse() {
         return ResponseEntity.notFound().build();
     }
 
+    private ResponseEntity<ErrorModel> alreadyEnrolledResponse(BindingResult errors) {
+        errors.rejectValue("id", "alreadyEnrolled", "The user is already enrolled in the event");
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(new ErrorModel(errors));
+    }
+
     private ResponseEntity<ErrorModel> badRequestResponse(BindingResult errors) {
         return ResponseEntity.badRequest().body(new ErrorModel(errors));
     }
@@ -185,14 +568,4 @@ public class EventController {
         }
         return Link.valueOf(linkValue);
     }
-
-    private Link linkToUpdate(Event newEvent) {
-        //return linkTo(methodOn(this.getClass()).update(newEvent.getId(), null, null, null)).withRel("update-event");
-        return linkTo(this.getClass()).slash(newEvent.getId()).withRel("update-event");
-    }
-
-    private Link linkToDelete(Event existEvent) {
-        //return linkTo(methodOn(this.getClass()).delete(existEvent.getId(), null)).withRel("delete-event");
-        return linkTo(this.getClass()).slash(existEvent.getId()).withRel("delete-event");
-    }
 }
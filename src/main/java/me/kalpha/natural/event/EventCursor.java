@@ -0,0 +1,92 @@
+package me.kalpha.natural.event;
+
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.List;
+
+@Getter
+public class EventCursor {
+
+    private static final List<String> SORTABLE_PROPERTIES = Arrays.asList("id", "name");
+
+    private static final String SEPARATOR = "|";
+
+    private final Sort.Order order;
+
+    private final Integer lastId;
+
+    private final String lastValue;
+
+    private EventCursor(Sort.Order order, Integer lastId, String lastValue) {
+        this.order = order;
+        this.lastId = lastId;
+        this.lastValue = lastValue;
+    }
+
+    public static EventCursor first(Sort sort) {
+        Iterator<Sort.Order> orders = sort.iterator();
+        if (!orders.hasNext()) {
+            return new EventCursor(Sort.Order.asc("id"), null, null);
+        }
+
+        Sort.Order order = orders.next();
+        if (orders.hasNext() || !SORTABLE_PROPERTIES.contains(order.getProperty())) {
+            throw new IllegalArgumentException("Keyset paging supports a single sort on " + SORTABLE_PROPERTIES);
+        }
+        return new EventCursor(new Sort.Order(order.getDirection(), order.getProperty()), null, null);
+    }
+
+    public static EventCursor decode(String token) {
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
+
+        String[] parts = decoded.split("\\" + SEPARATOR, 4);
+        if (parts.length < 3 || !SORTABLE_PROPERTIES.contains(parts[0])) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+        try {
+            Sort.Order order = new Sort.Order(Sort.Direction.fromString(parts[1]), parts[0]);
+            EventCursor cursor = new EventCursor(order, Integer.valueOf(parts[2]), parts.length == 4 ? parts[3] : null);
+            if (!cursor.isSortedById() && cursor.getLastValue() == null) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            return cursor;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
+    }
+
+    public boolean isFirst() {
+        return lastId == null;
+    }
+
+    public boolean isSortedById() {
+        return "id".equals(order.getProperty());
+    }
+
+    public EventCursor next(Event last) {
+        String value = isSortedById() ? null : last.getName();
+        return new EventCursor(order, last.getId(), value);
+    }
+
+    public String encode() {
+        StringBuilder builder = new StringBuilder()
+                .append(order.getProperty()).append(SEPARATOR)
+                .append(order.getDirection().name()).append(SEPARATOR)
+                .append(lastId);
+        if (!isSortedById()) {
+            builder.append(SEPARATOR).append(lastValue);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(builder.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
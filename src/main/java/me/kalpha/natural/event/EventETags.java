@@ -0,0 +1,99 @@
+package me.kalpha.natural.event;
+
+import me.kalpha.natural.user.User;
+import me.kalpha.natural.user.UserRole;
+import org.springframework.data.domain.Page;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.function.Function;
+
+final class EventETags {
+
+    private static final String ANY = "*";
+
+    private static final String WEAK_PREFIX = "W/";
+
+    private EventETags() {
+    }
+
+    static String of(Integer id, Integer version, Integer managerId, User currentUser) {
+        return quote(id + "-" + version + "-" + variant(currentUser, managerId));
+    }
+
+    static String of(Event event, User currentUser) {
+        Integer managerId = event.getManager() == null ? null : event.getManager().getId();
+        return of(event.getId(), event.getVersion(), managerId, currentUser);
+    }
+
+    static String ofEvents(Page<Event> page, User currentUser) {
+        return of(page, "full", Event::getId, Event::getVersion, currentUser);
+    }
+
+    static String ofSummaries(Page<EventSummary> page, User currentUser) {
+        return of(page, "summary", EventSummary::getId, EventSummary::getVersion, currentUser);
+    }
+
+    private static <T> String of(Page<T> page, String view, Function<T, Integer> id, Function<T, Integer> version,
+                                 User currentUser) {
+        StringBuilder builder = new StringBuilder(view).append('/')
+                .append(page.getNumber()).append('/')
+                .append(page.getSize()).append('/')
+                .append(page.getSort()).append('/')
+                .append(page.getTotalElements()).append('/')
+                .append(currentUser == null ? 'a' : 'u');
+        for (T event : page) {
+            builder.append('/').append(id.apply(event)).append(':').append(version.apply(event));
+        }
+        return quote(DigestUtils.md5DigestAsHex(builder.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    static boolean noneMatch(String ifNoneMatch, String eTag) {
+        return matches(ifNoneMatch, eTag, false);
+    }
+
+    static boolean match(String ifMatch, String eTag) {
+        return matches(ifMatch, eTag, true);
+    }
+
+    /**
+     * The representation carries update and delete links only for its manager or an admin,
+     * so the tag has to tell those apart from other users and anonymous readers.
+     */
+    private static char variant(User currentUser, Integer managerId) {
+        if (currentUser == null) {
+            return 'a';
+        }
+        if (currentUser.getRoles().contains(UserRole.ADMIN) || Objects.equals(currentUser.getId(), managerId)) {
+            return 'm';
+        }
+        return 'u';
+    }
+
+    private static boolean matches(String header, String eTag, boolean strong) {
+        if (header == null) {
+            return false;
+        }
+        for (String candidate : header.split(",")) {
+            candidate = candidate.trim();
+            if (candidate.equals(ANY)) {
+                return true;
+            }
+            if (candidate.startsWith(WEAK_PREFIX)) {
+                if (strong) {
+                    continue;
+                }
+                candidate = candidate.substring(WEAK_PREFIX.length());
+            }
+            if (candidate.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String quote(String value) {
+        return "\"" + value + "\"";
+    }
+}
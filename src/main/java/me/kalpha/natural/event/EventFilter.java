@@ -0,0 +1,65 @@
+package me.kalpha.natural.event;
+
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Query parameters of {@code GET /api/events}. Unset fields do not filter.
+ */
+@Data
+public class EventFilter {
+
+    EventStatus eventStatus;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    LocalDateTime from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    LocalDateTime to;
+
+    Integer priceFrom;
+
+    Integer priceTo;
+
+    Boolean free;
+
+    Boolean offLine;
+
+    Integer manager;
+
+    Predicate toPredicate(Root<Event> event, CriteriaBuilder cb) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (eventStatus != null) {
+            predicates.add(cb.equal(event.get("eventStatus"), eventStatus));
+        }
+        if (from != null) {
+            predicates.add(cb.greaterThanOrEqualTo(event.get("beginEventDateTime"), from));
+        }
+        if (to != null) {
+            predicates.add(cb.lessThanOrEqualTo(event.get("endEventDateTime"), to));
+        }
+        if (priceFrom != null) {
+            predicates.add(cb.greaterThanOrEqualTo(event.get("basePrice"), priceFrom));
+        }
+        if (priceTo != null) {
+            predicates.add(cb.lessThanOrEqualTo(event.get("maxPrice"), priceTo));
+        }
+        if (free != null) {
+            predicates.add(cb.equal(event.get("free"), free));
+        }
+        if (offLine != null) {
+            predicates.add(cb.equal(event.get("offLine"), offLine));
+        }
+        if (manager != null) {
+            predicates.add(cb.equal(event.get("manager").get("id"), manager));
+        }
+        return cb.and(predicates.toArray(new Predicate[0]));
+    }
+}
@@ -0,0 +1,155 @@
+package me.kalpha.natural.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import me.kalpha.natural.common.AppEventProperties;
+import me.kalpha.natural.common.SchedulerLease;
+import me.kalpha.natural.configs.CacheConfig;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Advances published events through their enrollment and event dates. Due events are found through the
+ * (event_status, date) indexes and moved a batch at a time with one conditional update, so concurrent runs
+ * and concurrent edits never move an event twice.
+ */
+@Component
+@Slf4j
+public class EventLifecycle {
+
+    public static final String LEASE_NAME = "event-lifecycle";
+
+    private static final List<Transition> TRANSITIONS = Arrays.asList(
+            new Transition(EventStatus.PUBLISHED, EventStatus.BEGAN_ENROLLMENT, "begin_enrollment_date_time"),
+            new Transition(EventStatus.BEGAN_ENROLLMENT, EventStatus.CLOSED_ENROLLMENT, "close_enrollment_date_time"),
+            new Transition(EventStatus.CLOSED_ENROLLMENT, EventStatus.BEGAN, "begin_event_date_time"),
+            new Transition(EventStatus.BEGAN, EventStatus.ENDED, "end_event_date_time")
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    private final SchedulerLease schedulerLease;
+
+    private final Cache eventCache;
+
+    private final MeterRegistry meterRegistry;
+
+    private final AppEventProperties appEventProperties;
+
+    private final EventChangeFeed eventChangeFeed;
+
+    public EventLifecycle(NamedParameterJdbcTemplate jdbcTemplate, SchedulerLease schedulerLease,
+                          CacheManager cacheManager, MeterRegistry meterRegistry,
+                          AppEventProperties appEventProperties, EventChangeFeed eventChangeFeed) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.schedulerLease = schedulerLease;
+        this.eventCache = cacheManager.getCache(CacheConfig.EVENTS);
+        this.meterRegistry = meterRegistry;
+        this.appEventProperties = appEventProperties;
+        this.eventChangeFeed = eventChangeFeed;
+    }
+
+    public void run() {
+        try {
+            if (schedulerLease.tryAcquire(LEASE_NAME, appEventProperties.getLifecycleLease())) {
+                advance(LocalDateTime.now());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Event lifecycle run failed", e);
+        }
+    }
+
+    public int advance(LocalDateTime now) {
+        int total = 0;
+        for (Transition transition : TRANSITIONS) {
+            int moved;
+            do {
+                moved = advance(transition, now);
+                total += moved;
+            } while (moved == appEventProperties.getLifecycleBatchSize());
+        }
+        return total;
+    }
+
+    private int advance(Transition transition, LocalDateTime now) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("from", transition.from.name())
+                .addValue("to", transition.to.name())
+                .addValue("now", now)
+                .addValue("limit", appEventProperties.getLifecycleBatchSize());
+        List<DueEvent> due = jdbcTemplate.query(transition.dueQuery, parameters,
+                (rs, rowNum) -> new DueEvent(rs.getInt("id"), rs.getTimestamp("due").toLocalDateTime()));
+        if (due.isEmpty()) {
+            return 0;
+        }
+
+        List<Integer> ids = due.stream().map(e -> e.id).collect(Collectors.toList());
+        int updated = jdbcTemplate.update("UPDATE event SET event_status = :to, version = version + 1"
+                + " WHERE id IN (:ids) AND event_status = :from", parameters.addValue("ids", ids));
+
+        ids.forEach(eventCache::evict);
+        List<Integer> moved = ids;
+        if (updated != ids.size()) {
+            // some were edited or moved in between; only announce the ones this update moved
+            moved = jdbcTemplate.queryForList("SELECT id FROM event WHERE id IN (:ids) AND event_status = :to",
+                    parameters, Integer.class);
+        }
+        eventChangeFeed.statusChanged(moved, transition.to);
+        Timer lag = Timer.builder("event.lifecycle.lag")
+                .description("Time between an event becoming due for a status and moving to it")
+                .tag("status", transition.to.name())
+                .register(meterRegistry);
+        Set<Integer> movedIds = new HashSet<>(moved);
+        due.stream()
+                .filter(e -> movedIds.contains(e.id))
+                .forEach(e -> lag.record(Duration.between(e.due, now)));
+        Counter.builder("event.lifecycle.transitions")
+                .tag("status", transition.to.name())
+                .register(meterRegistry)
+                .increment(updated);
+        log.debug("Moved {} events from {} to {}", updated, transition.from, transition.to);
+        return due.size();
+    }
+
+    private static class Transition {
+
+        private final EventStatus from;
+
+        private final EventStatus to;
+
+        private final String dueQuery;
+
+        private Transition(EventStatus from, EventStatus to, String dueColumn) {
+            this.from = from;
+            this.to = to;
+            this.dueQuery = "SELECT id, " + dueColumn + " AS due FROM event"
+                    + " WHERE event_status = :from AND " + dueColumn + " <= :now"
+                    + " ORDER BY " + dueColumn + " LIMIT :limit";
+        }
+    }
+
+    private static class DueEvent {
+
+        private final int id;
+
+        private final LocalDateTime due;
+
+        private DueEvent(int id, LocalDateTime due) {
+            this.id = id;
+            this.due = due;
+        }
+    }
+}
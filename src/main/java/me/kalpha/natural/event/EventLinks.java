@@ -0,0 +1,81 @@
+package me.kalpha.natural.event;
+
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+
+/**
+ * Event links for one base URI. The base is resolved from the current request once and the
+ * per-event links are plain string expansions of it, instead of a {@code linkTo} call per link.
+ */
+public final class EventLinks {
+
+    static final String ATTRIBUTE = EventLinks.class.getName();
+
+    private final String itemPrefix;
+
+    private final Link events;
+
+    private final Link createEvent;
+
+    private EventLinks(String baseUri) {
+        this.itemPrefix = baseUri + "/";
+        this.events = new Link(baseUri, "get-events");
+        this.createEvent = new Link(baseUri, "create-new-event");
+    }
+
+    public static EventLinks current() {
+        RequestAttributes attributes = RequestContextHolder.currentRequestAttributes();
+        EventLinks links = (EventLinks) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (links == null) {
+            links = new EventLinks(linkTo(EventController.class).withSelfRel().getHref());
+            attributes.setAttribute(ATTRIBUTE, links, RequestAttributes.SCOPE_REQUEST);
+        }
+        return links;
+    }
+
+    public Link events() {
+        return events;
+    }
+
+    public Link createEvent() {
+        return createEvent;
+    }
+
+    public Link self(Integer id) {
+        return new Link(itemPrefix + id, IanaLinkRelations.SELF);
+    }
+
+    public Link update(Integer id) {
+        return new Link(itemPrefix + id, "update-event");
+    }
+
+    public Link delete(Integer id) {
+        return new Link(itemPrefix + id, "delete-event");
+    }
+
+    public Link event(Integer id) {
+        return new Link(itemPrefix + id, "event");
+    }
+
+    public URI uri(Integer id) {
+        return URI.create(itemPrefix + id);
+    }
+
+    /**
+     * The next keyset page of the current request, keeping its filter parameters.
+     */
+    public Link next(String after, int size) {
+        String href = ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam("after", after)
+                .replaceQueryParam("size", size)
+                .toUriString();
+        return new Link(href, IanaLinkRelations.NEXT);
+    }
+}
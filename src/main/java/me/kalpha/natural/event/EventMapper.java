@@ -0,0 +1,26 @@
+package me.kalpha.natural.event;
+
+import org.springframework.stereotype.Component;
+
+@Component
+public class EventMapper {
+
+    public Event toEvent(EventDto.CreateOrUpdate eventDto) {
+        Event event = new Event();
+        copy(eventDto, event);
+        return event;
+    }
+
+    public void copy(EventDto.CreateOrUpdate eventDto, Event event) {
+        event.setName(eventDto.getName());
+        event.setDescription(eventDto.getDescription());
+        event.setBeginEnrollmentDateTime(eventDto.getBeginEnrollmentDateTime());
+        event.setCloseEnrollmentDateTime(eventDto.getCloseEnrollmentDateTime());
+        event.setBeginEventDateTime(eventDto.getBeginEventDateTime());
+        event.setEndEventDateTime(eventDto.getEndEventDateTime());
+        event.setLocation(eventDto.getLocation());
+        event.setBasePrice(eventDto.getBasePrice());
+        event.setMaxPrice(eventDto.getMaxPrice());
+        event.setLimitOfEnrollment(eventDto.getLimitOfEnrollment());
+    }
+}
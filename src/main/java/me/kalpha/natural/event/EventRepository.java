@@ -1,6 +1,42 @@
 package me.kalpha.natural.event;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
-public interface EventRepository extends JpaRepository<Event, Integer> {
+import javax.persistence.QueryHint;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.annotations.QueryHints.FETCH_SIZE;
+
+public interface EventRepository extends JpaRepository<Event, Integer>, EventRepositoryCustom {
+
+    int EXPORT_FETCH_SIZE = 500;
+
+    @Override
+    @EntityGraph(Event.WITH_MANAGER)
+    Page<Event> findAll(Pageable pageable);
+
+    @Override
+    @EntityGraph(Event.WITH_MANAGER)
+    List<Event> findAllById(Iterable<Integer> ids);
+
+    @QueryHints(@QueryHint(name = FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE))
+    @Query("select e from Event e left join fetch e.manager order by e.id")
+    Stream<Event> streamAll();
+
+    @Query("select e.version as version, e.manager.id as managerId from Event e where e.id = :id")
+    Optional<VersionView> findVersionById(Integer id);
+
+    interface VersionView {
+
+        Integer getVersion();
+
+        Integer getManagerId();
+    }
 }
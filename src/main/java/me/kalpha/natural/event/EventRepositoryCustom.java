@@ -0,0 +1,20 @@
+package me.kalpha.natural.event;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+public interface EventRepositoryCustom {
+
+    Page<Event> findAll(EventFilter filter, Pageable pageable);
+
+    Page<EventSummary> findAllSummaries(EventFilter filter, Pageable pageable);
+
+    Slice<EventSummary> search(String text, Pageable pageable);
+
+    List<Event> findAllAfter(EventFilter filter, EventCursor cursor, int limit);
+
+    List<Event> insertAll(List<Event> events);
+}
@@ -0,0 +1,213 @@
+package me.kalpha.natural.event;
+
+import org.hibernate.dialect.PostgreSQL81Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.repository.support.PageableExecutionUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class EventRepositoryImpl implements EventRepositoryCustom {
+
+    private static final String FETCH_GRAPH = "javax.persistence.fetchgraph";
+
+    private static final String FULL_TEXT_SEARCH = "select e.id from event e"
+            + " where e.search_vector @@ plainto_tsquery('simple', :text)"
+            + " order by ts_rank(e.search_vector, plainto_tsquery('simple', :text)) desc, e.id";
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:" + Event.ID_ALLOCATION_SIZE + "}")
+    private int batchSize;
+
+    @Override
+    public Page<Event> findAll(EventFilter filter, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Event> query = cb.createQuery(Event.class);
+        Root<Event> event = query.from(Event.class);
+        query.where(filter.toPredicate(event, cb));
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), event, cb));
+
+        TypedQuery<Event> typedQuery = entityManager.createQuery(query)
+                .setHint(FETCH_GRAPH, entityManager.getEntityGraph(Event.WITH_MANAGER));
+        return page(typedQuery, filter, pageable);
+    }
+
+    @Override
+    public Page<EventSummary> findAllSummaries(EventFilter filter, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EventSummary> query = cb.createQuery(EventSummary.class);
+        Root<Event> event = query.from(Event.class);
+        query.select(summary(cb, event));
+        query.where(filter.toPredicate(event, cb));
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), event, cb));
+
+        return page(entityManager.createQuery(query), filter, pageable);
+    }
+
+    @Override
+    public Slice<EventSummary> search(String text, Pageable pageable) {
+        int size = pageable.getPageSize();
+        List<EventSummary> summaries;
+        if (isPostgreSql()) {
+            @SuppressWarnings("unchecked")
+            List<Number> ids = entityManager.createNativeQuery(FULL_TEXT_SEARCH)
+                    .setParameter("text", text)
+                    .setFirstResult((int) pageable.getOffset())
+                    .setMaxResults(size + 1)
+                    .getResultList();
+            summaries = findSummariesInOrder(ids.stream().map(Number::intValue).collect(Collectors.toList()));
+        } else {
+            summaries = searchByLike(text, pageable.getOffset(), size + 1);
+        }
+
+        boolean hasNext = summaries.size() > size;
+        if (hasNext) {
+            summaries = summaries.subList(0, size);
+        }
+        return new SliceImpl<>(summaries, pageable, hasNext);
+    }
+
+    @Override
+    public List<Event> findAllAfter(EventFilter filter, EventCursor cursor, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Event> query = cb.createQuery(Event.class);
+        Root<Event> event = query.from(Event.class);
+
+        Sort.Order order = cursor.getOrder();
+        Path<String> key = event.get(order.getProperty());
+        Path<Integer> id = event.get("id");
+
+        if (cursor.isFirst()) {
+            query.where(filter.toPredicate(event, cb));
+        } else {
+            query.where(filter.toPredicate(event, cb), after(cb, cursor, key, id));
+        }
+        if (cursor.isSortedById()) {
+            query.orderBy(order.isAscending() ? cb.asc(id) : cb.desc(id));
+        } else {
+            query.orderBy(order.isAscending() ? cb.asc(key) : cb.desc(key),
+                    order.isAscending() ? cb.asc(id) : cb.desc(id));
+        }
+
+        return entityManager.createQuery(query)
+                .setHint(FETCH_GRAPH, entityManager.getEntityGraph(Event.WITH_MANAGER))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    @Transactional
+    public List<Event> insertAll(List<Event> events) {
+        for (int i = 0; i < events.size(); i++) {
+            entityManager.persist(events.get(i));
+            if ((i + 1) % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        return events;
+    }
+
+    private boolean isPostgreSql() {
+        return entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof PostgreSQL81Dialect;
+    }
+
+    private List<EventSummary> findSummariesInOrder(List<Integer> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EventSummary> query = cb.createQuery(EventSummary.class);
+        Root<Event> event = query.from(Event.class);
+        query.select(summary(cb, event)).where(event.get("id").in(ids));
+
+        Map<Integer, EventSummary> byId = entityManager.createQuery(query).getResultList().stream()
+                .collect(Collectors.toMap(EventSummary::getId, Function.identity()));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
+    /**
+     * Fallback for databases without a full-text index: a scan ranking name matches over location and
+     * description matches. Fine for tests and small tables only.
+     */
+    private List<EventSummary> searchByLike(String text, long offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EventSummary> query = cb.createQuery(EventSummary.class);
+        Root<Event> event = query.from(Event.class);
+        query.select(summary(cb, event));
+
+        String pattern = "%" + text.toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+        Predicate inName = cb.like(cb.lower(event.get("name")), pattern, LIKE_ESCAPE);
+        Predicate inLocation = cb.like(cb.lower(event.get("location")), pattern, LIKE_ESCAPE);
+        Predicate inDescription = cb.like(cb.lower(event.get("description")), pattern, LIKE_ESCAPE);
+        query.where(cb.or(inName, inLocation, inDescription));
+        query.orderBy(cb.asc(cb.selectCase().when(inName, 0).when(inLocation, 1).otherwise(2)),
+                cb.asc(event.get("id")));
+
+        return entityManager.createQuery(query)
+                .setFirstResult((int) offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private CompoundSelection<EventSummary> summary(CriteriaBuilder cb, Root<Event> event) {
+        return cb.construct(EventSummary.class,
+                event.get("id"), event.get("version"), event.get("name"),
+                event.get("beginEnrollmentDateTime"), event.get("closeEnrollmentDateTime"),
+                event.get("beginEventDateTime"), event.get("endEventDateTime"),
+                event.get("location"), event.get("basePrice"), event.get("maxPrice"), event.get("limitOfEnrollment"),
+                event.get("free"), event.get("offLine"), event.get("eventStatus"),
+                event.get("manager").get("id"));
+    }
+
+    private <T> Page<T> page(TypedQuery<T> query, EventFilter filter, Pageable pageable) {
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> count(filter));
+    }
+
+    private long count(EventFilter filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Event> event = query.from(Event.class);
+        query.select(cb.count(event)).where(filter.toPredicate(event, cb));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private Predicate after(CriteriaBuilder cb, EventCursor cursor, Path<String> key, Path<Integer> id) {
+        boolean ascending = cursor.getOrder().isAscending();
+        Predicate idAfter = ascending ? cb.greaterThan(id, cursor.getLastId()) : cb.lessThan(id, cursor.getLastId());
+        if (cursor.isSortedById()) {
+            return idAfter;
+        }
+
+        String lastValue = cursor.getLastValue();
+        Predicate keyAfter = ascending ? cb.greaterThan(key, lastValue) : cb.lessThan(key, lastValue);
+        return cb.or(keyAfter, cb.and(cb.equal(key, lastValue), idAfter));
+    }
+}
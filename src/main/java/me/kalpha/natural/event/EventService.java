@@ -0,0 +1,145 @@
+package me.kalpha.natural.event;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import me.kalpha.natural.common.SingleFlight;
+import me.kalpha.natural.configs.CacheConfig;
+import me.kalpha.natural.outbox.Outbox;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+@Service
+public class EventService {
+
+    public static final String EVENT_PUBLISHED = "EventPublished";
+
+    private final EventRepository eventRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final Outbox outbox;
+
+    private final Cache eventCache;
+
+    private final SingleFlight<Integer, Optional<Event>> eventLoads;
+
+    private final SingleFlight<Integer, Optional<EventRepository.VersionView>> versionLoads;
+
+    public EventService(EventRepository eventRepository, Outbox outbox, CacheManager cacheManager,
+                        MeterRegistry meterRegistry) {
+        this.eventRepository = eventRepository;
+        this.outbox = outbox;
+        this.eventCache = cacheManager.getCache(CacheConfig.EVENTS);
+        this.eventLoads = new SingleFlight<>("event", meterRegistry);
+        this.versionLoads = new SingleFlight<>("event.version", meterRegistry);
+    }
+
+    @Cacheable(cacheNames = CacheConfig.EVENTS, key = "#id", unless = "#result == null")
+    public Optional<Event> getEvent(Integer id) {
+        return eventLoads.load(id, () -> eventRepository.findById(id));
+    }
+
+    /**
+     * The cached event if it is at least {@code version}, otherwise reloaded and cached again, so an entry that is
+     * not evicted yet never answers for a version already read from the database.
+     */
+    public Optional<Event> getEvent(Integer id, Integer version) {
+        Event cached = eventCache.get(id, Event.class);
+        if (cached != null && cached.getVersion() >= version) {
+            return Optional.of(cached);
+        }
+        Optional<Event> loaded = eventRepository.findById(id);
+        loaded.ifPresent(e -> eventCache.put(id, e));
+        return loaded;
+    }
+
+    public Optional<EventRepository.VersionView> getVersion(Integer id) {
+        return versionLoads.load(id, () -> eventRepository.findVersionById(id));
+    }
+
+    /**
+     * Events by id in the order asked, served from the events cache where present and loaded together otherwise.
+     * Ids without an event are left out.
+     */
+    public Map<Integer, Event> getEvents(Collection<Integer> ids) {
+        Map<Integer, Event> events = new LinkedHashMap<>();
+        List<Integer> misses = new ArrayList<>();
+        for (Integer id : ids) {
+            Event cached = eventCache.get(id, Event.class);
+            events.put(id, cached);
+            if (cached == null) {
+                misses.add(id);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            for (Event event : eventRepository.findAllById(misses)) {
+                events.put(event.getId(), event);
+                eventCache.put(event.getId(), event);
+            }
+        }
+        events.values().removeIf(e -> e == null);
+        return events;
+    }
+
+    public Event createEvent(Event event) {
+        return eventRepository.save(event);
+    }
+
+    public List<Event> createEvents(List<Event> events) {
+        return eventRepository.insertAll(events);
+    }
+
+    @Transactional(readOnly = true)
+    public void forEachEvent(Consumer<Event> action) {
+        try (Stream<Event> events = eventRepository.streamAll()) {
+            int count = 0;
+            for (Iterator<Event> iterator = events.iterator(); iterator.hasNext(); ) {
+                action.accept(iterator.next());
+                if (++count % EventRepository.EXPORT_FETCH_SIZE == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.EVENTS, key = "#event.id")
+    public Event updateEvent(Event event) {
+        return eventRepository.save(event);
+    }
+
+    /**
+     * Publishes the event and records an {@code EventPublished} outbox message in the same transaction.
+     * The version in the dedupe key makes a re-publish after a later draft a distinct message.
+     */
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.EVENTS, key = "#event.id")
+    public Event publishEvent(Event event) {
+        event.setEventStatus(EventStatus.PUBLISHED);
+        Event published = eventRepository.saveAndFlush(event);
+        outbox.add(EVENT_PUBLISHED, published.getId(),
+                EVENT_PUBLISHED + ":" + published.getId() + ":" + published.getVersion(), published);
+        return published;
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.EVENTS, key = "#id")
+    public void deleteEvent(Integer id) {
+        eventRepository.deleteById(id);
+    }
+}
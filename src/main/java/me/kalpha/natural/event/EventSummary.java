@@ -0,0 +1,72 @@
+package me.kalpha.natural.event;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import lombok.Getter;
+import me.kalpha.natural.user.User;
+import me.kalpha.natural.user.UserSerializer;
+import org.springframework.hateoas.server.core.Relation;
+
+import java.time.LocalDateTime;
+
+/**
+ * List view of an {@link Event}: every column except the description, with the manager reduced to its id.
+ */
+@Getter
+@Relation(collectionRelation = "eventList")
+public class EventSummary {
+
+    private final Integer id;
+
+    @JsonIgnore
+    private final Integer version;
+
+    private final String name;
+
+    private final LocalDateTime beginEnrollmentDateTime;
+
+    private final LocalDateTime closeEnrollmentDateTime;
+
+    private final LocalDateTime beginEventDateTime;
+
+    private final LocalDateTime endEventDateTime;
+
+    private final String location;
+
+    private final Integer basePrice;
+
+    private final Integer maxPrice;
+
+    private final Integer limitOfEnrollment;
+
+    private final boolean free;
+
+    private final boolean offLine;
+
+    private final EventStatus eventStatus;
+
+    @JsonSerialize(using = UserSerializer.class)
+    private final User manager;
+
+    public EventSummary(Integer id, Integer version, String name,
+                        LocalDateTime beginEnrollmentDateTime, LocalDateTime closeEnrollmentDateTime,
+                        LocalDateTime beginEventDateTime, LocalDateTime endEventDateTime,
+                        String location, Integer basePrice, Integer maxPrice, Integer limitOfEnrollment,
+                        boolean free, boolean offLine, EventStatus eventStatus, Integer managerId) {
+        this.id = id;
+        this.version = version;
+        this.name = name;
+        this.beginEnrollmentDateTime = beginEnrollmentDateTime;
+        this.closeEnrollmentDateTime = closeEnrollmentDateTime;
+        this.beginEventDateTime = beginEventDateTime;
+        this.endEventDateTime = endEventDateTime;
+        this.location = location;
+        this.basePrice = basePrice;
+        this.maxPrice = maxPrice;
+        this.limitOfEnrollment = limitOfEnrollment;
+        this.free = free;
+        this.offLine = offLine;
+        this.eventStatus = eventStatus;
+        this.manager = managerId == null ? null : User.builder().id(managerId).build();
+    }
+}
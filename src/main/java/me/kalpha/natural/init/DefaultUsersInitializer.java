@@ -2,6 +2,7 @@ package me.kalpha.natural.init;
 
 import me.kalpha.natural.common.AppSecurityProperties;
 import me.kalpha.natural.user.User;
+import me.kalpha.natural.user.UserRepository;
 import me.kalpha.natural.user.UserRole;
 import me.kalpha.natural.user.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,6 +21,9 @@ public class DefaultUsersInitializer implements ApplicationRunner {
     @Autowired
     UserService userService;
 
+    @Autowired
+    UserRepository userRepository;
+
     @Autowired
     AppSecurityProperties appSecurityProperties;
 
@@ -32,7 +36,7 @@ public class DefaultUsersInitializer implements ApplicationRunner {
                 .roles(h)
                 .build();
 
-        userService.createUser(admin);
+        createIfAbsent(admin);
 
         Set<UserRole> h2 = new HashSet<>(Arrays.asList(UserRole.USER));
         User user = User.builder()
@@ -41,7 +45,13 @@ public class DefaultUsersInitializer implements ApplicationRunner {
                 .roles(h2)
                 .build();
 
-        userService.createUser(user);
+        createIfAbsent(user);
+    }
+
+    private void createIfAbsent(User user) {
+        if (!userRepository.findByEmailIgnoreCase(user.getEmail()).isPresent()) {
+            userService.createUser(user);
+        }
     }
 
 }
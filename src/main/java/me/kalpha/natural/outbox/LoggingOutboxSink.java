@@ -0,0 +1,16 @@
+package me.kalpha.natural.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+@Slf4j
+public class LoggingOutboxSink implements OutboxSink {
+
+    @Override
+    public void send(List<OutboxMessage> messages) {
+        for (OutboxMessage message : messages) {
+            log.info("{} {} {}", message.getType(), message.getDedupeKey(), message.getPayload());
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package me.kalpha.natural.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Component
+public class Outbox {
+
+    private final OutboxRepository outboxRepository;
+
+    private final ObjectMapper objectMapper;
+
+    public Outbox(OutboxRepository outboxRepository, ObjectMapper objectMapper) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Records a message in the caller's transaction, so it is only delivered if that transaction commits.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public OutboxMessage add(String type, Integer aggregateId, String dedupeKey, Object payload) {
+        try {
+            return outboxRepository.save(OutboxMessage.builder()
+                    .type(type)
+                    .aggregateId(aggregateId)
+                    .dedupeKey(dedupeKey)
+                    .payload(objectMapper.writeValueAsString(payload))
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize outbox payload " + type, e);
+        }
+    }
+}
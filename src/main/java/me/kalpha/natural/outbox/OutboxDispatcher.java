@@ -0,0 +1,147 @@
+package me.kalpha.natural.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import me.kalpha.natural.common.AppOutboxProperties;
+import me.kalpha.natural.common.SchedulerLease;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Drains undelivered outbox messages to the {@link OutboxSink} in id order, one batch at a time.
+ * When a batch is rejected its messages are retried one by one, so a single bad message is parked with
+ * a backoff, and dead-lettered after {@code maxAttempts}, instead of holding back the messages behind it.
+ */
+@Component
+@Slf4j
+public class OutboxDispatcher {
+
+    public static final String LEASE_NAME = "outbox-dispatcher";
+
+    private final OutboxRepository outboxRepository;
+
+    private final OutboxSink outboxSink;
+
+    private final SchedulerLease schedulerLease;
+
+    private final AppOutboxProperties appOutboxProperties;
+
+    private final Counter dispatched;
+
+    private final Counter failed;
+
+    private final Counter dead;
+
+    private final Timer lag;
+
+    public OutboxDispatcher(OutboxRepository outboxRepository, OutboxSink outboxSink, SchedulerLease schedulerLease,
+                            AppOutboxProperties appOutboxProperties, MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.outboxSink = outboxSink;
+        this.schedulerLease = schedulerLease;
+        this.appOutboxProperties = appOutboxProperties;
+        this.dispatched = Counter.builder("outbox.dispatched").register(meterRegistry);
+        this.failed = Counter.builder("outbox.failed").register(meterRegistry);
+        this.dead = Counter.builder("outbox.dead").register(meterRegistry);
+        this.lag = Timer.builder("outbox.lag")
+                .description("Time between a message being recorded and handed to the sink")
+                .register(meterRegistry);
+    }
+
+    public void run() {
+        try {
+            if (schedulerLease.tryAcquire(LEASE_NAME, appOutboxProperties.getLease())) {
+                dispatch();
+                outboxRepository.deleteDispatchedBefore(LocalDateTime.now().minus(appOutboxProperties.getRetention()));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Outbox dispatch failed", e);
+        }
+    }
+
+    public int dispatch() {
+        return dispatch(outboxSink);
+    }
+
+    int dispatch(OutboxSink sink) {
+        return dispatch(sink, LocalDateTime.now());
+    }
+
+    int dispatch(OutboxSink sink, LocalDateTime now) {
+        int total = 0;
+        int batchSize = appOutboxProperties.getBatchSize();
+        List<OutboxMessage> batch;
+        do {
+            batch = outboxRepository.findDeliverable(now, PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            try {
+                sink.send(batch);
+                markDispatched(batch, now);
+                total += batch.size();
+                continue;
+            } catch (Exception e) {
+                log.warn("Outbox sink rejected {} messages starting at {}, retrying them one by one",
+                        batch.size(), batch.get(0).getId(), e);
+            }
+
+            List<OutboxMessage> sent = new ArrayList<>(batch.size());
+            for (OutboxMessage message : batch) {
+                try {
+                    sink.send(Collections.singletonList(message));
+                    sent.add(message);
+                } catch (Exception e) {
+                    markFailed(message, now, e);
+                }
+            }
+            markDispatched(sent, now);
+            total += sent.size();
+            if (sent.isEmpty()) {
+                // nothing got through, the sink itself is probably down; try again next round
+                break;
+            }
+        } while (batch.size() == batchSize);
+        return total;
+    }
+
+    private void markDispatched(List<OutboxMessage> messages, LocalDateTime now) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        List<Long> ids = messages.stream().map(OutboxMessage::getId).collect(Collectors.toList());
+        outboxRepository.markDispatched(ids, now);
+        messages.forEach(m -> lag.record(Duration.between(m.getCreatedAt(), now)));
+        dispatched.increment(messages.size());
+    }
+
+    private void markFailed(OutboxMessage message, LocalDateTime now, Exception cause) {
+        int attempts = message.getAttempts() + 1;
+        failed.increment();
+        if (attempts >= appOutboxProperties.getMaxAttempts()) {
+            log.error("Outbox message {} ({}) failed {} times, moving it to the dead letters",
+                    message.getId(), message.getDedupeKey(), attempts, cause);
+            outboxRepository.markFailed(message.getId(), null, now);
+            dead.increment();
+            return;
+        }
+        log.warn("Outbox message {} ({}) failed {} times", message.getId(), message.getDedupeKey(), attempts, cause);
+        outboxRepository.markFailed(message.getId(), now.plus(backoff(attempts)), null);
+    }
+
+    private Duration backoff(int attempts) {
+        Duration backoff = appOutboxProperties.getBackoff().multipliedBy(1L << Math.min(attempts - 1, 20));
+        Duration maxBackoff = appOutboxProperties.getMaxBackoff();
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+}
@@ -0,0 +1,41 @@
+package me.kalpha.natural.outbox;
+
+import lombok.*;
+import org.hibernate.annotations.Type;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Getter @Setter @EqualsAndHashCode(of = "id")
+@Builder @NoArgsConstructor @AllArgsConstructor
+public class OutboxMessage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    Long id;
+
+    @Column(nullable = false, unique = true)
+    String dedupeKey;
+
+    @Column(nullable = false)
+    String type;
+
+    @Column(nullable = false)
+    Integer aggregateId;
+
+    @Column(nullable = false)
+    @Type(type = "org.hibernate.type.TextType")
+    String payload;
+
+    @Column(nullable = false)
+    LocalDateTime createdAt;
+
+    LocalDateTime dispatchedAt;
+
+    int attempts;
+
+    LocalDateTime nextAttemptAt;
+
+    LocalDateTime deadAt;
+}
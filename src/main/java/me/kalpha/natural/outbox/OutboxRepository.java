@@ -0,0 +1,33 @@
+package me.kalpha.natural.outbox;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxRepository extends JpaRepository<OutboxMessage, Long> {
+
+    @Query("select m from OutboxMessage m where m.dispatchedAt is null and m.deadAt is null"
+            + " and (m.nextAttemptAt is null or m.nextAttemptAt <= :now) order by m.id")
+    List<OutboxMessage> findDeliverable(LocalDateTime now, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("update OutboxMessage m set m.dispatchedAt = :dispatchedAt where m.id in :ids")
+    int markDispatched(List<Long> ids, LocalDateTime dispatchedAt);
+
+    @Transactional
+    @Modifying
+    @Query("update OutboxMessage m set m.attempts = m.attempts + 1, m.nextAttemptAt = :nextAttemptAt,"
+            + " m.deadAt = :deadAt where m.id = :id")
+    int markFailed(Long id, LocalDateTime nextAttemptAt, LocalDateTime deadAt);
+
+    @Transactional
+    @Modifying
+    @Query("delete from OutboxMessage m where m.dispatchedAt < :before")
+    int deleteDispatchedBefore(LocalDateTime before);
+}
@@ -0,0 +1,12 @@
+package me.kalpha.natural.outbox;
+
+import java.util.List;
+
+/**
+ * Downstream destination of outbox messages. Delivery is at-least-once: a batch is sent again if the dispatcher
+ * cannot record it as delivered, so receivers should drop messages whose {@code dedupeKey} they have already seen.
+ */
+public interface OutboxSink {
+
+    void send(List<OutboxMessage> messages) throws Exception;
+}
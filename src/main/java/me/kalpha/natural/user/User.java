@@ -1,15 +1,18 @@
 package me.kalpha.natural.user;
 
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import javax.persistence.*;
+import java.io.Serializable;
+import java.util.Locale;
 import java.util.Set;
 
 @Entity
 @Table(name = "Natural_User")
 @Getter @Setter @EqualsAndHashCode(of = "id")
 @Builder @NoArgsConstructor @AllArgsConstructor
-public class User {
+public class User implements Serializable {
 
     @Id @GeneratedValue
     public Integer id;
@@ -17,10 +20,22 @@ public class User {
     @Column(unique = true, nullable = false)
     private String email;
 
+    @Column(unique = true, nullable = false)
+    private String normalizedEmail;
+
     private String password;
 
     @ElementCollection(fetch = FetchType.EAGER)
+    @BatchSize(size = 100)
     @Enumerated(EnumType.STRING)
     private Set<UserRole> roles;
 
+    @PrePersist @PreUpdate
+    void normalizeEmail() {
+        this.normalizedEmail = normalize(email);
+    }
+
+    public static String normalize(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
 }
@@ -0,0 +1,55 @@
+package me.kalpha.natural.user;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.provider.token.DefaultUserAuthenticationConverter;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class UserAdapterAuthenticationConverter extends DefaultUserAuthenticationConverter {
+
+    public static final String USER_ID = "user_id";
+
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    @Override
+    public Map<String, ?> convertUserAuthentication(Authentication authentication) {
+        Map<String, Object> response = new LinkedHashMap<>(super.convertUserAuthentication(authentication));
+        if (authentication.getPrincipal() instanceof UserAdapter) {
+            response.put(USER_ID, ((UserAdapter) authentication.getPrincipal()).getUser().getId());
+        }
+        return response;
+    }
+
+    @Override
+    public Authentication extractAuthentication(Map<String, ?> map) {
+        if (!map.containsKey(USERNAME) || !map.containsKey(USER_ID)) {
+            return super.extractAuthentication(map);
+        }
+
+        User user = User.builder()
+                .id(((Number) map.get(USER_ID)).intValue())
+                .email((String) map.get(USERNAME))
+                .password("")
+                .roles(roles(map.get(AUTHORITIES)))
+                .build();
+        UserAdapter principal = new UserAdapter(user);
+        return new UsernamePasswordAuthenticationToken(principal, "N/A", principal.getAuthorities());
+    }
+
+    private Set<UserRole> roles(Object authorities) {
+        if (!(authorities instanceof Collection)) {
+            return new HashSet<>();
+        }
+        return ((Collection<?>) authorities).stream()
+                .map(Object::toString)
+                .filter(authority -> authority.startsWith(ROLE_PREFIX))
+                .map(authority -> UserRole.valueOf(authority.substring(ROLE_PREFIX.length())))
+                .collect(Collectors.toSet());
+    }
+}
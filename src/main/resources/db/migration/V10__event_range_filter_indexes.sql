@@ -0,0 +1,2 @@
+CREATE INDEX event_end_event_idx ON event (end_event_date_time);
+CREATE INDEX event_max_price_idx ON event (max_price);
@@ -0,0 +1,3 @@
+ALTER TABLE outbox_message ADD COLUMN next_attempt_at TIMESTAMP;
+
+ALTER TABLE outbox_message ADD COLUMN dead_at TIMESTAMP;
@@ -0,0 +1,2 @@
+UPDATE enrollment_count
+SET enrolled = (SELECT COUNT(*) FROM enrollment WHERE enrollment.event_id = enrollment_count.event_id);
@@ -0,0 +1,10 @@
+CREATE TABLE event_change (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    type         VARCHAR(32)  NOT NULL,
+    event_id     INTEGER      NOT NULL,
+    event_status VARCHAR(255),
+    changed_at   TIMESTAMP    NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX event_change_changed_at_idx ON event_change (changed_at);
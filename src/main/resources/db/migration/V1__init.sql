@@ -0,0 +1,55 @@
+CREATE SEQUENCE hibernate_sequence START WITH 1 INCREMENT BY 1;
+
+CREATE TABLE natural_user (
+    id       INTEGER      NOT NULL,
+    email    VARCHAR(255) NOT NULL,
+    password VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT natural_user_email_key UNIQUE (email)
+);
+
+CREATE TABLE user_roles (
+    user_id INTEGER NOT NULL,
+    roles   VARCHAR(255),
+    CONSTRAINT user_roles_user_id_fk FOREIGN KEY (user_id) REFERENCES natural_user (id)
+);
+
+CREATE TABLE event (
+    id                         INTEGER      NOT NULL,
+    name                       VARCHAR(255) NOT NULL,
+    description                TEXT,
+    begin_enrollment_date_time TIMESTAMP,
+    close_enrollment_date_time TIMESTAMP,
+    begin_event_date_time      TIMESTAMP,
+    end_event_date_time        TIMESTAMP,
+    location                   VARCHAR(255),
+    base_price                 INTEGER,
+    max_price                  INTEGER,
+    limit_of_enrollment        INTEGER,
+    event_status               VARCHAR(255),
+    manager_id                 INTEGER,
+    PRIMARY KEY (id),
+    CONSTRAINT event_manager_id_fk FOREIGN KEY (manager_id) REFERENCES natural_user (id)
+);
+
+CREATE TABLE oauth_access_token (
+    token_id          VARCHAR(256),
+    token             BYTEA,
+    authentication_id VARCHAR(256) PRIMARY KEY,
+    user_name         VARCHAR(256),
+    client_id         VARCHAR(256),
+    authentication    BYTEA,
+    refresh_token     VARCHAR(256)
+);
+
+CREATE INDEX oauth_access_token_token_id_idx ON oauth_access_token (token_id);
+CREATE INDEX oauth_access_token_refresh_token_idx ON oauth_access_token (refresh_token);
+CREATE INDEX oauth_access_token_user_name_client_id_idx ON oauth_access_token (user_name, client_id);
+
+CREATE TABLE oauth_refresh_token (
+    token_id       VARCHAR(256),
+    token          BYTEA,
+    authentication BYTEA
+);
+
+CREATE INDEX oauth_refresh_token_token_id_idx ON oauth_refresh_token (token_id);
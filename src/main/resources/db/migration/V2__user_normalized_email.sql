@@ -0,0 +1,7 @@
+ALTER TABLE natural_user ADD COLUMN normalized_email VARCHAR(255);
+
+UPDATE natural_user SET normalized_email = LOWER(email);
+
+ALTER TABLE natural_user ALTER COLUMN normalized_email SET NOT NULL;
+
+CREATE UNIQUE INDEX natural_user_normalized_email_idx ON natural_user (normalized_email);
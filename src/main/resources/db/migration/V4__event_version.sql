@@ -0,0 +1 @@
+ALTER TABLE event ADD COLUMN version INTEGER DEFAULT 0 NOT NULL;
@@ -0,0 +1,14 @@
+ALTER TABLE event ADD COLUMN free BOOLEAN DEFAULT FALSE NOT NULL;
+
+ALTER TABLE event ADD COLUMN off_line BOOLEAN DEFAULT FALSE NOT NULL;
+
+UPDATE event
+SET free     = (max_price IS NULL OR max_price = 0),
+    off_line = (location IS NOT NULL AND TRIM(location) <> '');
+
+CREATE INDEX event_status_begin_idx ON event (event_status, begin_event_date_time);
+CREATE INDEX event_begin_event_idx ON event (begin_event_date_time);
+CREATE INDEX event_base_price_idx ON event (base_price);
+CREATE INDEX event_free_begin_idx ON event (free, begin_event_date_time);
+CREATE INDEX event_off_line_begin_idx ON event (off_line, begin_event_date_time);
+CREATE INDEX event_manager_id_idx ON event (manager_id);
@@ -0,0 +1,10 @@
+CREATE TABLE scheduler_lease (
+    name        VARCHAR(64)  NOT NULL,
+    owner       VARCHAR(128) NOT NULL,
+    lease_until TIMESTAMP    NOT NULL,
+    PRIMARY KEY (name)
+);
+
+CREATE INDEX event_status_begin_enrollment_idx ON event (event_status, begin_enrollment_date_time);
+CREATE INDEX event_status_close_enrollment_idx ON event (event_status, close_enrollment_date_time);
+CREATE INDEX event_status_end_idx ON event (event_status, end_event_date_time);
@@ -0,0 +1,14 @@
+CREATE TABLE outbox_message (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    dedupe_key    VARCHAR(255) NOT NULL,
+    type          VARCHAR(64)  NOT NULL,
+    aggregate_id  INTEGER      NOT NULL,
+    payload       TEXT         NOT NULL,
+    created_at    TIMESTAMP    NOT NULL,
+    dispatched_at TIMESTAMP,
+    attempts      INTEGER      DEFAULT 0 NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE UNIQUE INDEX outbox_message_dedupe_key_idx ON outbox_message (dedupe_key);
+CREATE INDEX outbox_message_pending_idx ON outbox_message (dispatched_at, id);
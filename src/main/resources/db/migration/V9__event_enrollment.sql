@@ -0,0 +1,20 @@
+CREATE TABLE enrollment (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    event_id    INTEGER   NOT NULL,
+    user_id     INTEGER   NOT NULL,
+    enrolled_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT enrollment_event_id_user_id_key UNIQUE (event_id, user_id),
+    CONSTRAINT enrollment_event_id_fk FOREIGN KEY (event_id) REFERENCES event (id) ON DELETE CASCADE,
+    CONSTRAINT enrollment_user_id_fk FOREIGN KEY (user_id) REFERENCES natural_user (id) ON DELETE CASCADE
+);
+
+CREATE INDEX enrollment_user_id_idx ON enrollment (user_id);
+
+-- kept apart from the event row so enrollments never contend with edits or lifecycle updates of the event
+CREATE TABLE enrollment_count (
+    event_id INTEGER           NOT NULL,
+    enrolled INTEGER DEFAULT 0 NOT NULL,
+    PRIMARY KEY (event_id),
+    CONSTRAINT enrollment_count_event_id_fk FOREIGN KEY (event_id) REFERENCES event (id) ON DELETE CASCADE
+);
@@ -1,6 +1,7 @@
 package me.kalpha.natural.common;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Disabled;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,6 +13,11 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
 @SpringBootTest
 @AutoConfigureMockMvc
 @AutoConfigureRestDocs
@@ -32,4 +38,22 @@ public class BaseControllerTests {
     @Autowired
     protected ModelMapper modelMapper;
 
+    private final Deque<Runnable> restores = new ArrayDeque<>();
+
+    /**
+     * Changes a setting on a shared bean for one test; the original value is put back after the test.
+     */
+    protected <T> void override(Supplier<T> getter, Consumer<T> setter, T value) {
+        T original = getter.get();
+        restores.push(() -> setter.accept(original));
+        setter.accept(value);
+    }
+
+    @AfterEach
+    public void restoreOverrides() {
+        while (!restores.isEmpty()) {
+            restores.pop().run();
+        }
+    }
+
 }
@@ -0,0 +1,110 @@
+package me.kalpha.natural.common;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.kalpha.natural.configs.SecurityConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BoundedPasswordEncoderTest {
+
+    private BoundedPasswordEncoder passwordEncoder;
+
+    private ExecutorService callers = Executors.newCachedThreadPool();
+
+    @AfterEach
+    public void tearDown() {
+        passwordEncoder.destroy();
+        callers.shutdownNow();
+    }
+
+    @DisplayName("Encode and match passwords on the hashing executor and record latency")
+    @Test
+    public void encodeAndMatch() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        passwordEncoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 1, 1, Duration.ofSeconds(5));
+        passwordEncoder.bindTo(registry);
+
+        // When
+        String encoded = passwordEncoder.encode("pass");
+
+        // Then
+        assertThat(passwordEncoder.matches("pass", encoded)).isTrue();
+        assertThat(passwordEncoder.matches("wrong", encoded)).isFalse();
+        assertThat(registry.get("password.hash").tag("operation", "encode").timer().count()).isEqualTo(1);
+        assertThat(registry.get("password.hash").tag("operation", "matches").timer().count()).isEqualTo(2);
+    }
+
+    @DisplayName("Encode new passwords with bcrypt and still verify hashes stored under the other encoder ids")
+    @Test
+    public void verifyLegacyEncoderIds() {
+        // Given
+        AppSecurityProperties appSecurityProperties = new AppSecurityProperties();
+        appSecurityProperties.setPasswordHashStrength(4);
+        passwordEncoder = new SecurityConfig().passwordEncoder(appSecurityProperties);
+
+        // When & Then
+        assertThat(passwordEncoder.encode("pass")).startsWith("{bcrypt}");
+        assertThat(passwordEncoder.matches("pass", "{noop}pass")).isTrue();
+        assertThat(passwordEncoder.matches("pass", "{pbkdf2}" + new Pbkdf2PasswordEncoder().encode("pass"))).isTrue();
+        assertThat(passwordEncoder.matches("wrong", "{noop}pass")).isFalse();
+    }
+
+    @DisplayName("Reject a hash right away when the worker and its queue are full")
+    @Test
+    public void rejectWhenSaturated() throws Exception {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        passwordEncoder = new BoundedPasswordEncoder(blocking(started, release), 1, 1, Duration.ofSeconds(5));
+        passwordEncoder.bindTo(registry);
+
+        callers.submit(() -> passwordEncoder.encode("running"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        callers.submit(() -> passwordEncoder.encode("queued"));
+        while (passwordEncoder.getQueueSize() < 1) {
+            Thread.sleep(10);
+        }
+
+        // When & Then
+        assertThrows(AuthenticationServiceException.class, () -> passwordEncoder.encode("rejected"));
+        assertThat(registry.get("password.hash.rejected").counter().count()).isEqualTo(1);
+        assertThat(registry.get("password.hash.queue").gauge().value()).isEqualTo(1);
+        release.countDown();
+    }
+
+    private PasswordEncoder blocking(CountDownLatch started, CountDownLatch release) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return rawPassword.toString().equals(encodedPassword);
+            }
+        };
+    }
+}
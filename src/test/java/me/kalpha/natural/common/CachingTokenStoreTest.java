@@ -0,0 +1,98 @@
+package me.kalpha.natural.common;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.oauth2.common.DefaultOAuth2AccessToken;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.OAuth2Request;
+import org.springframework.security.oauth2.provider.token.store.InMemoryTokenStore;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class CachingTokenStoreTest {
+
+    private InMemoryTokenStore delegate;
+
+    private CachingTokenStore tokenStore;
+
+    @BeforeEach
+    public void setUp() {
+        delegate = Mockito.spy(new InMemoryTokenStore());
+        tokenStore = new CachingTokenStore(delegate, Duration.ofMinutes(1), 100);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        tokenStore.destroy();
+    }
+
+    @DisplayName("Read a stored token from the local cache without hitting the delegate")
+    @Test
+    public void readCachedToken() {
+        // Given
+        DefaultOAuth2AccessToken token = token("cached", 600);
+        delegate.storeAccessToken(token, authentication());
+
+        // When
+        tokenStore.readAccessToken("cached");
+        tokenStore.readAccessToken("cached");
+        OAuth2Authentication authentication = tokenStore.readAuthentication(token);
+
+        // Then
+        assertThat(authentication.getName()).isEqualTo("user@email.com");
+        verify(delegate, times(1)).readAccessToken("cached");
+        verify(delegate, times(1)).readAuthentication("cached");
+    }
+
+    @DisplayName("Never serve a token from the cache past its own expiration")
+    @Test
+    public void expiredTokenIsNotCached() {
+        // Given
+        delegate.storeAccessToken(token("expired", -1), authentication());
+
+        // When
+        tokenStore.readAccessToken("expired");
+        tokenStore.readAccessToken("expired");
+
+        // Then
+        verify(delegate, times(2)).readAccessToken("expired");
+    }
+
+    @DisplayName("Removing a token evicts it from the local cache")
+    @Test
+    public void removeTokenEvictsCache() {
+        // Given
+        DefaultOAuth2AccessToken token = token("removed", 600);
+        tokenStore.storeAccessToken(token, authentication());
+
+        // When
+        tokenStore.removeAccessToken(token);
+
+        // Then
+        assertThat(tokenStore.readAccessToken("removed")).isNull();
+    }
+
+    private DefaultOAuth2AccessToken token(String value, int expiresInSeconds) {
+        DefaultOAuth2AccessToken token = new DefaultOAuth2AccessToken(value);
+        token.setExpiration(new Date(System.currentTimeMillis() + expiresInSeconds * 1000L));
+        return token;
+    }
+
+    private OAuth2Authentication authentication() {
+        OAuth2Request request = new OAuth2Request(Collections.emptyMap(), "myApp", Collections.emptySet(),
+                true, Collections.singleton("read"), Collections.emptySet(), null, Collections.emptySet(),
+                Collections.emptyMap());
+        return new OAuth2Authentication(request,
+                new UsernamePasswordAuthenticationToken("user@email.com", null, Collections.emptySet()));
+    }
+}
@@ -0,0 +1,59 @@
+package me.kalpha.natural.common;
+
+import me.kalpha.natural.event.Event;
+import me.kalpha.natural.event.EventStatus;
+import me.kalpha.natural.user.User;
+
+import java.time.LocalDateTime;
+
+/**
+ * Events for tests that work below the API. Dates match {@code createEventDto()} in the controller tests.
+ */
+public final class EventFixtures {
+
+    public static final LocalDateTime BEGIN_ENROLLMENT = LocalDateTime.of(2018, 10, 15, 0, 0);
+
+    public static final LocalDateTime CLOSE_ENROLLMENT = LocalDateTime.of(2018, 11, 3, 23, 59);
+
+    public static final LocalDateTime BEGIN_EVENT = LocalDateTime.of(2018, 11, 10, 9, 0);
+
+    public static final LocalDateTime END_EVENT = LocalDateTime.of(2018, 11, 10, 14, 0);
+
+    private EventFixtures() {
+    }
+
+    public static Event event(String name) {
+        return event(name, EventStatus.DRAFT);
+    }
+
+    public static Event event(String name, EventStatus status) {
+        Event event = new Event();
+        event.setName(name);
+        event.setBeginEnrollmentDateTime(BEGIN_ENROLLMENT);
+        event.setCloseEnrollmentDateTime(CLOSE_ENROLLMENT);
+        event.setBeginEventDateTime(BEGIN_EVENT);
+        event.setEndEventDateTime(END_EVENT);
+        event.setEventStatus(status);
+        return event;
+    }
+
+    public static Event event(String name, User manager) {
+        Event event = event(name);
+        event.setManager(manager);
+        return event;
+    }
+
+    /**
+     * An event open for enrollment right now, so it passes {@link Event#acceptsEnrollment(LocalDateTime)}.
+     */
+    public static Event enrollingEvent(String name, Integer limitOfEnrollment) {
+        LocalDateTime now = LocalDateTime.now();
+        Event event = event(name, EventStatus.BEGAN_ENROLLMENT);
+        event.setBeginEnrollmentDateTime(now.minusHours(1));
+        event.setCloseEnrollmentDateTime(now.plusDays(1));
+        event.setBeginEventDateTime(now.plusDays(2));
+        event.setEndEventDateTime(now.plusDays(2).plusHours(3));
+        event.setLimitOfEnrollment(limitOfEnrollment);
+        return event;
+    }
+}
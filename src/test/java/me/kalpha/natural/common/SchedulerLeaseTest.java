@@ -0,0 +1,39 @@
+package me.kalpha.natural.common;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SchedulerLeaseTest extends BaseControllerTests {
+
+    private static final String NAME = "lease-test";
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        jdbcTemplate.update("DELETE FROM scheduler_lease WHERE name = ?", NAME);
+    }
+
+    @DisplayName("Only one node holds a lease until it expires")
+    @Test
+    public void leaseIsExclusiveUntilExpired() {
+        // Given
+        SchedulerLease first = new SchedulerLease(jdbcTemplate, "first");
+        SchedulerLease second = new SchedulerLease(jdbcTemplate, "second");
+
+        // When & Then
+        assertThat(first.tryAcquire(NAME, Duration.ofMinutes(1))).isTrue();
+        assertThat(second.tryAcquire(NAME, Duration.ofMinutes(1))).isFalse();
+        assertThat(first.tryAcquire(NAME, Duration.ofSeconds(-1))).isTrue();
+        assertThat(second.tryAcquire(NAME, Duration.ofMinutes(1))).isTrue();
+        assertThat(first.tryAcquire(NAME, Duration.ofMinutes(1))).isFalse();
+    }
+}
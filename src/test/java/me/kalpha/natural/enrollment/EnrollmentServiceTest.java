@@ -0,0 +1,210 @@
+package me.kalpha.natural.enrollment;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import me.kalpha.natural.common.AppEventProperties;
+import me.kalpha.natural.common.BaseControllerTests;
+import me.kalpha.natural.common.EventFixtures;
+import me.kalpha.natural.event.Event;
+import me.kalpha.natural.event.EventRepository;
+import me.kalpha.natural.user.User;
+import me.kalpha.natural.user.UserRepository;
+import me.kalpha.natural.user.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EnrollmentServiceTest extends BaseControllerTests {
+
+    private static final int LIMIT = 25;
+
+    private static final int USERS = 200;
+
+    private static final int THREADS = 32;
+
+    @Autowired
+    EnrollmentService enrollmentService;
+
+    @Autowired
+    EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    AppEventProperties appEventProperties;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    private Event event;
+
+    private List<User> users;
+
+    @BeforeEach
+    public void setUp() {
+        this.eventRepository.deleteAll();
+        this.userRepository.deleteAll();
+
+        this.event = eventRepository.save(EventFixtures.enrollingEvent("popular event", LIMIT));
+        this.users = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            users.add(userRepository.save(User.builder()
+                    .email("enrollee" + i + "@email.com")
+                    .password("pass")
+                    .roles(Collections.singleton(UserRole.USER))
+                    .build()));
+        }
+    }
+
+    @DisplayName("A rush of concurrent sign-ups fills exactly limitOfEnrollment seats")
+    @Test
+    public void concurrentEnrollmentNeverOversells() throws Exception {
+        // When
+        int accepted = rush(Collections.singletonList(enrollmentService));
+
+        // Then
+        assertThat(accepted).isEqualTo(LIMIT);
+        assertThat(enrollmentRepository.countByEventId(event.getId())).isEqualTo(LIMIT);
+        assertThat(enrolled()).isEqualTo(LIMIT);
+        assertThat(enrollmentService.remaining(event.getId())).isZero();
+    }
+
+    @DisplayName("Nodes with their own local quotas still fill exactly limitOfEnrollment seats")
+    @Test
+    public void concurrentEnrollmentAcrossNodesNeverOversells() throws Exception {
+        // Given
+        List<EnrollmentService> nodes = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            nodes.add(new EnrollmentService(jdbcTemplate, enrollmentRepository, transactionManager,
+                    appEventProperties, meterRegistry));
+        }
+
+        // When
+        int accepted = rush(nodes);
+
+        // Then
+        assertThat(accepted).isEqualTo(LIMIT);
+        assertThat(enrollmentRepository.countByEventId(event.getId())).isEqualTo(LIMIT);
+        assertThat(enrolled()).isEqualTo(LIMIT);
+    }
+
+    @DisplayName("A duplicate sign-up is rejected and gives its seat back")
+    @Test
+    public void duplicateEnrollmentReleasesSeat() {
+        // Given
+        User user = users.get(0);
+        enrollmentService.enroll(event, user);
+
+        // When
+        Throwable thrown = null;
+        try {
+            enrollmentService.enroll(event, user);
+        } catch (RuntimeException e) {
+            thrown = e;
+        }
+
+        // Then
+        assertThat(thrown).isNotNull();
+        assertThat(enrolled()).isEqualTo(1);
+        assertThat(enrollmentService.remaining(event.getId())).isEqualTo(LIMIT - 1);
+    }
+
+    @DisplayName("Enrollments taken while the event had no limit count against a limit set later")
+    @Test
+    public void limitChangeCountsEarlierEnrollments() throws Exception {
+        // Given
+        event.setLimitOfEnrollment(0);
+        event = eventRepository.save(event);
+        for (int i = 0; i < LIMIT - 5; i++) {
+            assertThat(enrollmentService.enroll(event, users.remove(0))).isPresent();
+        }
+        assertThat(enrolled()).isEqualTo(LIMIT - 5);
+
+        // When
+        event.setLimitOfEnrollment(LIMIT);
+        event = eventRepository.save(event);
+        int accepted = rush(Collections.singletonList(enrollmentService));
+
+        // Then
+        assertThat(accepted).isEqualTo(5);
+        assertThat(enrollmentRepository.countByEventId(event.getId())).isEqualTo(LIMIT);
+        assertThat(enrolled()).isEqualTo(LIMIT);
+    }
+
+    @DisplayName("A count row created after enrollments exist starts from those enrollments")
+    @Test
+    public void countSeededFromExistingEnrollments() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            enrollmentRepository.save(Enrollment.builder()
+                    .eventId(event.getId())
+                    .userId(users.get(i).getId())
+                    .enrolledAt(LocalDateTime.now())
+                    .build());
+        }
+
+        // When
+        enrollmentService.enroll(event, users.get(3));
+
+        // Then
+        assertThat(enrolled()).isEqualTo(4);
+        assertThat(enrollmentService.remaining(event.getId())).isEqualTo(LIMIT - 4);
+    }
+
+    private int rush(List<EnrollmentService> nodes) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger accepted = new AtomicInteger();
+        try {
+            List<Future<?>> futures = new ArrayList<>(users.size());
+            for (int i = 0; i < users.size(); i++) {
+                EnrollmentService node = nodes.get(i % nodes.size());
+                User user = users.get(i);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    if (node.enroll(event, user).isPresent()) {
+                        accepted.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return accepted.get();
+    }
+
+    private int enrolled() {
+        return jdbcTemplate.queryForObject(
+                "SELECT enrolled FROM enrollment_count WHERE event_id = ?", Integer.class, event.getId());
+    }
+}
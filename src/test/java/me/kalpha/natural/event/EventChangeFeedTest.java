@@ -0,0 +1,202 @@
+package me.kalpha.natural.event;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.kalpha.natural.common.AppEventProperties;
+import me.kalpha.natural.common.BaseControllerTests;
+import me.kalpha.natural.configs.CacheConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import reactor.core.Exceptions;
+import reactor.test.StepVerifier;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EventChangeFeedTest extends BaseControllerTests {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    CacheManager cacheManager;
+
+    private AppEventProperties appEventProperties;
+
+    private MeterRegistry meterRegistry;
+
+    private EventChangeFeed feed;
+
+    private long base;
+
+    @BeforeEach
+    public void setUp() {
+        // give the feed a last sequence to count from
+        jdbcTemplate.update("INSERT INTO event_change (type, event_id, changed_at) VALUES ('DELETED', 0, ?)",
+                Timestamp.valueOf(LocalDateTime.now()));
+        appEventProperties = new AppEventProperties();
+        appEventProperties.setFeedHistorySize(4);
+        appEventProperties.setFeedBufferSize(2);
+        meterRegistry = new SimpleMeterRegistry();
+        feed = node();
+        base = feed.lastSequence();
+    }
+
+    @DisplayName("Resume after a sequence with the missed changes, then live ones")
+    @Test
+    public void resumeAfterSequence() {
+        // Given
+        feed.created(event(1));
+        feed.updated(event(1));
+        feed.deleted(2);
+
+        // When & Then
+        StepVerifier.create(feed.subscribe(base + 1))
+                .assertNext(c -> assertThat(c.getSequence()).isEqualTo(base + 2))
+                .assertNext(c -> assertThat(c.getType()).isEqualTo(EventChange.Type.DELETED))
+                .then(() -> {
+                    feed.statusChanged(1, EventStatus.PUBLISHED);
+                    feed.poll();
+                })
+                .assertNext(c -> {
+                    assertThat(c.getSequence()).isEqualTo(base + 4);
+                    assertThat(c.getEventStatus()).isEqualTo(EventStatus.PUBLISHED);
+                })
+                .thenCancel()
+                .verify(TIMEOUT);
+        assertThat(feed.subscriberCount()).isZero();
+    }
+
+    @DisplayName("Writing a change only inserts it; the next poll delivers it")
+    @Test
+    public void deliverOnlyFromPoll() {
+        // When
+        feed.created(event(1));
+
+        // Then
+        assertThat(feed.lastSequence()).isEqualTo(base);
+        assertThat(feed.poll()).isEqualTo(1);
+        assertThat(feed.lastSequence()).isEqualTo(base + 1);
+    }
+
+    @DisplayName("Refuse to resume from a sequence that has left the history")
+    @Test
+    public void resumeOnlyWithinHistory() {
+        // When
+        for (int i = 0; i < 6; i++) {
+            feed.created(event(i));
+        }
+
+        // Then
+        assertThat(feed.canResumeAfter(base + 1)).isFalse();
+        assertThat(feed.canResumeAfter(base + 2)).isTrue();
+        assertThat(feed.canResumeAfter(base + 6)).isTrue();
+        assertThat(feed.canResumeAfter(base + 7)).isFalse();
+
+        feed.poll();
+        feed.purge(LocalDateTime.now().plusSeconds(1));
+        assertThat(feed.canResumeAfter(base + 5)).isFalse();
+        assertThat(feed.canResumeAfter(base + 6)).isTrue();
+    }
+
+    @DisplayName("Changes written on one node reach subscribers on another with the same sequence")
+    @Test
+    public void deliverChangesFromOtherNodes() {
+        // Given
+        EventChangeFeed other = node();
+        other.created(event(1));
+
+        // When & Then
+        StepVerifier.create(feed.subscribe(null))
+                .then(() -> {
+                    other.statusChanged(1, EventStatus.PUBLISHED);
+                    feed.poll();
+                })
+                .assertNext(c -> {
+                    assertThat(c.getSequence()).isEqualTo(base + 2);
+                    assertThat(c.getType()).isEqualTo(EventChange.Type.STATUS_CHANGED);
+                })
+                .thenCancel()
+                .verify(TIMEOUT);
+        StepVerifier.create(other.subscribe(base + 1))
+                .assertNext(c -> assertThat(c.getSequence()).isEqualTo(base + 2))
+                .thenCancel()
+                .verify(TIMEOUT);
+    }
+
+    @DisplayName("Polling evicts events changed on another node from this node's cache")
+    @Test
+    public void evictEventsChangedOnOtherNodes() {
+        // Given
+        EventChangeFeed other = node();
+        Cache events = cacheManager.getCache(CacheConfig.EVENTS);
+        events.put(1, event(1));
+        events.put(2, event(2));
+
+        // When
+        other.updated(event(1));
+        feed.poll();
+
+        // Then
+        assertThat(events.get(1)).isNull();
+        assertThat(events.get(2)).isNotNull();
+        events.clear();
+    }
+
+    @DisplayName("Polling waits at a sequence gap, then moves past it once the gap times out")
+    @Test
+    public void waitAtSequenceGap() {
+        // Given
+        EventChangeFeed other = node();
+        other.created(event(1));
+        other.created(event(2));
+        // the first id never commits
+        jdbcTemplate.update("DELETE FROM event_change WHERE id = ?", base + 1);
+
+        // When & Then
+        appEventProperties.setFeedGapTimeout(Duration.ofHours(1));
+        assertThat(feed.poll()).isZero();
+        appEventProperties.setFeedGapTimeout(Duration.ZERO);
+        assertThat(feed.poll()).isEqualTo(1);
+        assertThat(feed.lastSequence()).isEqualTo(base + 2);
+    }
+
+    @DisplayName("A subscriber that falls a full buffer behind is evicted")
+    @Test
+    public void evictSlowSubscriber() {
+        // When & Then
+        StepVerifier.create(feed.subscribe(null), 0)
+                .then(() -> {
+                    for (int i = 0; i < 3; i++) {
+                        feed.created(event(i));
+                    }
+                    feed.poll();
+                })
+                .thenRequest(2)
+                .expectNextCount(2)
+                .expectErrorMatches(Exceptions::isOverflow)
+                .verify(TIMEOUT);
+        assertThat(meterRegistry.counter("event.feed.evicted").count()).isEqualTo(1);
+        assertThat(feed.subscriberCount()).isZero();
+    }
+
+    private EventChangeFeed node() {
+        return new EventChangeFeed(jdbcTemplate, appEventProperties, cacheManager, meterRegistry);
+    }
+
+    private Event event(int id) {
+        Event event = new Event();
+        event.setId(id);
+        return event;
+    }
+}
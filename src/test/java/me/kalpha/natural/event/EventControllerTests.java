@@ -1,7 +1,11 @@
 package me.kalpha.natural.event;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.jayway.jsonpath.JsonPath;
+import me.kalpha.natural.common.AppEventProperties;
 import me.kalpha.natural.common.AppSecurityProperties;
 import me.kalpha.natural.common.BaseControllerTests;
+import me.kalpha.natural.configs.CacheConfig;
 import me.kalpha.natural.user.User;
 import me.kalpha.natural.user.UserRepository;
 import me.kalpha.natural.user.UserRole;
@@ -12,21 +16,31 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders;
 import org.springframework.restdocs.payload.JsonFieldType;
 import org.springframework.restdocs.payload.RequestFieldsSnippet;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.oauth2.common.util.Jackson2JsonParser;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
 import static org.springframework.restdocs.headers.HeaderDocumentation.responseHeaders;
 import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.*;
@@ -34,8 +48,10 @@ import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.docu
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
 import static org.springframework.restdocs.request.RequestDocumentation.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -53,6 +69,18 @@ public class EventControllerTests extends BaseControllerTests {
     @Autowired
     AppSecurityProperties appSecurityProperties;
 
+    @Autowired
+    CacheManager cacheManager;
+
+    @Autowired
+    EventChangeFeed eventChangeFeed;
+
+    @Autowired
+    AppEventProperties appEventProperties;
+
+    @Autowired
+    RequestMappingHandlerAdapter requestMappingHandlerAdapter;
+
     @BeforeEach
     public void setUp() {
         this.eventRepository.deleteAll();
@@ -104,6 +132,76 @@ public class EventControllerTests extends BaseControllerTests {
         ;
     }
 
+    @DisplayName("Trying to create events in bulk and get per-item errors.")
+    @Test
+    public void createEventsInBulk() throws Exception {
+        // Given
+        EventDto.CreateOrUpdate valid = createEventDto();
+        EventDto.CreateOrUpdate missingName = createEventDto();
+        missingName.setName(null);
+        EventDto.CreateOrUpdate wrongDates = createEventDto();
+        wrongDates.setEndEventDateTime(LocalDateTime.of(2018, 11, 1, 14, 0));
+
+        // When & Then
+        mockMvc.perform(post("/api/events/bulk")
+                    .header(HttpHeaders.AUTHORIZATION, bearer(getAccessToken()))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(Arrays.asList(valid, missingName, wrongDates, valid))))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("created").value(2))
+                .andExpect(jsonPath("errors[0].index").value(1))
+                .andExpect(jsonPath("errors[0].content[0].field").value("name"))
+                .andExpect(jsonPath("errors[1].index").value(2))
+                .andExpect(jsonPath("errors[1].content[0].field").value("endEventDateTime"))
+                .andDo(document("create-events-bulk",
+                    links(halLinks(),
+                        linkWithRel("profile").description("Link to profile"),
+                        linkWithRel("get-events").description("Link to view all events")
+                    ),
+                    responseFields(
+                        fieldWithPath("created").description("number of events created"),
+                        fieldWithPath("errors[].index").description("position of the rejected event in the request array"),
+                        fieldWithPath("errors[].content[].objectName").description("object name of the error"),
+                        fieldWithPath("errors[].content[].field").description("rejected field"),
+                        fieldWithPath("errors[].content[].defaultMessage").type(JsonFieldType.STRING).description("error message").optional(),
+                        fieldWithPath("errors[].content[].rejectedValue").description("rejected value"),
+                        subsectionWithPath("_links").ignored()
+                    )
+                ))
+        ;
+
+        assertThat(eventRepository.count()).isEqualTo(2);
+    }
+
+    @DisplayName("Reporting null items and rejecting oversized bulk requests")
+    @Test
+    public void createEventsInBulk_NullItemAndTooMany() throws Exception {
+        String accessToken = getAccessToken();
+        mockMvc.perform(post("/api/events/bulk")
+                    .header(HttpHeaders.AUTHORIZATION, bearer(accessToken))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(Arrays.asList(createEventDto(), null))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("created").value(1))
+                .andExpect(jsonPath("errors[0].index").value(1))
+                .andExpect(jsonPath("errors[0].content[0].defaultMessage").exists());
+
+        mockMvc.perform(post("/api/events/bulk")
+                    .header(HttpHeaders.AUTHORIZATION, bearer(accessToken))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(Collections.nCopies(EventController.MAX_BULK_ITEMS + 1, createEventDto()))))
+                .andExpect(status().isPayloadTooLarge());
+
+        mockMvc.perform(post("/api/events/bulk")
+                    .header(HttpHeaders.AUTHORIZATION, bearer(accessToken))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{}"))
+                .andExpect(status().isBadRequest());
+
+        assertThat(eventRepository.count()).isEqualTo(1);
+    }
+
     @DisplayName("Getting an event successfully as a user not manager of the event")
     @Test
     public void getAnEvent() throws Exception {
@@ -162,7 +260,16 @@ public class EventControllerTests extends BaseControllerTests {
                     ),
                     requestParameters(
                         parameterWithName("page").description("page to retrieve, begin with and default is 0").optional(),
-                        parameterWithName("size").description("Sie of the page to retrieve, default 20").optional()
+                        parameterWithName("size").description("Sie of the page to retrieve, default 20").optional(),
+                        parameterWithName("fullBody").description("include descriptions, default false").optional(),
+                        parameterWithName("eventStatus").description("only events in this status").optional(),
+                        parameterWithName("from").description("only events beginning at or after this ISO date-time").optional(),
+                        parameterWithName("to").description("only events ending at or before this ISO date-time").optional(),
+                        parameterWithName("priceFrom").description("only events whose base price is at least this").optional(),
+                        parameterWithName("priceTo").description("only events whose max price is at most this").optional(),
+                        parameterWithName("free").description("only free (true) or paid (false) events").optional(),
+                        parameterWithName("offLine").description("only offline (true) or online (false) events").optional(),
+                        parameterWithName("manager").description("only events managed by this user id").optional()
                     ),
                     relaxedResponseFields(
                         fieldWithPath("page.number").type(JsonFieldType.NUMBER).description("The number of this page."),
@@ -174,6 +281,213 @@ public class EventControllerTests extends BaseControllerTests {
         ;
     }
 
+    @DisplayName("Event list leaves descriptions out unless full bodies are requested.")
+    @Test
+    public void getEvents_fullBody() throws Exception {
+        // Given
+        User manager = userService.createUser(User.builder().email("manager@email.com").password("manager")
+                .roles(new HashSet<>(Arrays.asList(UserRole.USER))).build());
+        Event sampleEvent = this.createSampleEvent();
+        sampleEvent.setManager(manager);
+        Event event = this.eventRepository.save(sampleEvent);
+
+        // When & Then
+        this.mockMvc.perform(get("/api/events"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList[0].id").value(event.getId()))
+                .andExpect(jsonPath("_embedded.eventList[0].name").value(event.getName()))
+                .andExpect(jsonPath("_embedded.eventList[0].manager.id").value(manager.getId()))
+                .andExpect(jsonPath("_embedded.eventList[0].description").doesNotExist())
+                .andExpect(jsonPath("_embedded.eventList[0]._links.self.href").value(Matchers.endsWith("/api/events/" + event.getId())));
+
+        this.mockMvc.perform(get("/api/events").param("fullBody", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList[0].description").value(event.getDescription()))
+                .andExpect(jsonPath("_embedded.eventList[0].manager.id").value(manager.getId()));
+    }
+
+    @DisplayName("Trying to search events by keyword across name, location and description.")
+    @Test
+    public void searchEvents() throws Exception {
+        // Given
+        Event inDescription = this.createSampleEvent();
+        inDescription.setDescription("a deep dive into Spring REST Docs");
+        inDescription = this.eventRepository.save(inDescription);
+        Event inName = this.createSampleEvent();
+        inName.setName("REST API workshop");
+        inName = this.eventRepository.save(inName);
+        Event inLocation = this.createSampleEvent();
+        inLocation.setLocation("Rest area 3");
+        inLocation = this.eventRepository.save(inLocation);
+        this.eventRepository.save(this.createSampleEvent());
+
+        // When & Then
+        this.mockMvc.perform(get("/api/events/search")
+                .header(HttpHeaders.AUTHORIZATION, bearer(getAccessToken()))
+                .param("q", "rest")
+                .param("size", "2"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(2))
+                .andExpect(jsonPath("_embedded.eventList[0].id").value(inName.getId()))
+                .andExpect(jsonPath("_embedded.eventList[1].id").value(inLocation.getId()))
+                .andExpect(jsonPath("_embedded.eventList[0].description").doesNotExist())
+                .andExpect(jsonPath("_links.next.href").value(Matchers.containsString("page=1")))
+                .andDo(document("search-events",
+                    relaxedLinks(
+                        linkWithRel("self").description("Link to self"),
+                        linkWithRel("next").description("Link to the next page of results").optional(),
+                        linkWithRel("create-new-event").description("Link to create new event"),
+                        linkWithRel("profile").description("Link to profile")
+                    ),
+                    requestParameters(
+                        parameterWithName("q").description("keywords to search in name, location and description"),
+                        parameterWithName("page").description("page to retrieve, begin with and default is 0").optional(),
+                        parameterWithName("size").description("Size of the page to retrieve, default 20").optional()
+                    )
+                ));
+
+        this.mockMvc.perform(get("/api/events/search").param("q", "rest").param("size", "2").param("page", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(1))
+                .andExpect(jsonPath("_embedded.eventList[0].id").value(inDescription.getId()))
+                .andExpect(jsonPath("_links.next").doesNotExist());
+
+        this.mockMvc.perform(get("/api/events/search").param("q", " "))
+                .andExpect(status().isBadRequest());
+    }
+
+    @DisplayName("Trying to get events page by page with keyset cursor.")
+    @Test
+    public void getEventsByKeyset() throws Exception {
+        // Given
+        Event first = this.eventRepository.save(this.createSampleEvent());
+        Event second = this.eventRepository.save(this.createSampleEvent());
+        Event third = this.eventRepository.save(this.createSampleEvent());
+
+        // When & Then
+        String response = this.mockMvc.perform(get("/api/events")
+                .param("after", "")
+                .param("size", "2")
+                .header(HttpHeaders.AUTHORIZATION, bearer(getAccessToken())))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(2))
+                .andExpect(jsonPath("_embedded.eventList[0].id").value(first.getId()))
+                .andExpect(jsonPath("_embedded.eventList[1].id").value(second.getId()))
+                .andExpect(jsonPath("page").doesNotExist())
+                .andExpect(jsonPath("_links.next.href").isNotEmpty())
+                .andDo(document("get-events-keyset",
+                    relaxedLinks(
+                        linkWithRel("profile").description("Link to profile"),
+                        linkWithRel("self").description("Link to self"),
+                        linkWithRel("next").description("Link to the next page, absent on the last page"),
+                        linkWithRel("create-new-event").description("Link to create new event")
+                    ),
+                    requestParameters(
+                        parameterWithName("after").description("cursor of the next page from the `next` link, empty for the first page"),
+                        parameterWithName("size").description("Size of the page to retrieve, default 20").optional(),
+                        parameterWithName("sort").description("sort of the first page, one of `id` or `name`, default `id`").optional()
+                    )
+                ))
+                .andReturn().getResponse().getContentAsString();
+
+        String next = JsonPath.read(response, "$._links.next.href");
+        String after = UriComponentsBuilder.fromUriString(next).build().getQueryParams().getFirst("after");
+
+        this.mockMvc.perform(get("/api/events")
+                .param("after", after)
+                .param("size", "2"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(1))
+                .andExpect(jsonPath("_embedded.eventList[0].id").value(third.getId()))
+                .andExpect(jsonPath("_links.next").doesNotExist())
+        ;
+    }
+
+    @DisplayName("Trying to get filtered events page by page with keyset cursor.")
+    @Test
+    public void getEventsByKeyset_filtered() throws Exception {
+        // Given
+        Event first = this.eventRepository.save(this.createSampleEvent());
+        this.eventRepository.save(this.createSampleEvent());
+        Event third = this.eventRepository.save(this.createSampleEvent());
+        Event fourth = this.eventRepository.save(this.createSampleEvent());
+        for (Event event : Arrays.asList(first, third, fourth)) {
+            event.setEventStatus(EventStatus.PUBLISHED);
+            this.eventRepository.save(event);
+        }
+
+        // When & Then
+        String response = this.mockMvc.perform(get("/api/events?after=&size=2&eventStatus=PUBLISHED"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList[*].id").value(Matchers.contains(first.getId(), third.getId())))
+                .andExpect(jsonPath("_links.next.href").value(Matchers.containsString("eventStatus=PUBLISHED")))
+                .andReturn().getResponse().getContentAsString();
+
+        String next = JsonPath.read(response, "$._links.next.href");
+        this.mockMvc.perform(get(next))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList[*].id").value(Matchers.contains(fourth.getId())))
+                .andExpect(jsonPath("_links.next").doesNotExist())
+        ;
+    }
+
+    @DisplayName("Trying to page a batch of events by id with a keyset cursor.")
+    @Test
+    public void getEventsByKeyset_withIds() throws Exception {
+        this.mockMvc.perform(get("/api/events")
+                .param("after", "")
+                .param("ids", "1", "2"))
+                .andExpect(status().isBadRequest())
+        ;
+    }
+
+    @DisplayName("Trying to get events with a malformed keyset cursor.")
+    @Test
+    public void getEventsByKeyset_badCursor() throws Exception {
+        this.mockMvc.perform(get("/api/events")
+                .param("after", "not a cursor"))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+        ;
+    }
+
+    @DisplayName("Trying to export all events as NDJSON.")
+    @Test
+    public void exportEvents() throws Exception {
+        // Given
+        User manager = userService.createUser(User.builder().email("manager@email.com").password("manager")
+                .roles(new HashSet<>(Arrays.asList(UserRole.USER))).build());
+        for (int i = 0; i < 3; i++) {
+            Event event = this.createSampleEvent();
+            event.setManager(manager);
+            this.eventRepository.save(event);
+        }
+
+        // When
+        MvcResult result = this.mockMvc.perform(get("/api/events/export")
+                .header(HttpHeaders.AUTHORIZATION, bearer(getAccessToken()))
+                .accept(EventController.NDJSON_VALUE))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        String body = this.mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(EventController.NDJSON_VALUE))
+                .andReturn().getResponse().getContentAsString();
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(3);
+        for (String line : lines) {
+            JsonNode node = objectMapper.readTree(line);
+            assertThat(node.get("name").asText()).isEqualTo("test event");
+            assertThat(node.get("manager").size()).isEqualTo(1);
+            assertThat(node.get("manager").get("id").asInt()).isEqualTo(manager.getId());
+        }
+    }
+
     @DisplayName("Manager can update existing event with correct data.")
     @Test
     public void updateEvent() throws Exception {
@@ -228,6 +542,348 @@ public class EventControllerTests extends BaseControllerTests {
         ;
     }
 
+    @DisplayName("Getting an event is served from cache until the event is updated.")
+    @Test
+    public void getAnEvent_cachedUntilUpdated() throws Exception {
+        // Given
+        String email = "manager@email.com";
+        String originalPassword = "manager";
+        Set<UserRole> h = new HashSet<>(Arrays.asList(UserRole.USER));
+        User manager = userService.createUser(
+                User.builder().email(email).password(originalPassword).roles(h).build()
+        );
+
+        Event sampleEvent = this.createSampleEvent();
+        sampleEvent.setManager(manager);
+        Event existingEvent = this.eventRepository.save(sampleEvent);
+        Cache events = cacheManager.getCache(CacheConfig.EVENTS);
+
+        // When & Then
+        this.mockMvc.perform(get("/api/events/{id}", existingEvent.getId()))
+                .andExpect(status().isOk());
+        assertThat(events.get(existingEvent.getId())).isNotNull();
+
+        this.mockMvc.perform(put("/api/events/{id}", existingEvent.getId())
+                .header(HttpHeaders.AUTHORIZATION, bearer(getAccessToken(manager, originalPassword)))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(createEventDto())))
+                .andExpect(status().isOk());
+        assertThat(events.get(existingEvent.getId())).isNull();
+    }
+
+    @DisplayName("Getting an unchanged event with its ETag answers 304 Not Modified.")
+    @Test
+    public void getAnEvent_notModified() throws Exception {
+        // Given
+        Event existingEvent = this.eventRepository.save(this.createSampleEvent());
+        String eTag = this.mockMvc.perform(get("/api/events/{id}", existingEvent.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        this.mockMvc.perform(get("/api/events/{id}", existingEvent.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+
+        this.mockMvc.perform(get("/api/events/{id}", existingEvent.getId())
+                .header(HttpHeaders.AUTHORIZATION, bearer(getAccessToken()))
+                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_links.create-new-event").hasJsonPath());
+    }
+
+    @DisplayName("Getting a changed event with its old ETag answers the new version even if the cache is stale.")
+    @Test
+    public void getAnEvent_staleCache() throws Exception {
+        // Given
+        Event existingEvent = this.eventRepository.save(this.createSampleEvent());
+        String eTag = this.mockMvc.perform(get("/api/events/{id}", existingEvent.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        // changed behind the events cache, as on another node
+        existingEvent.setName("renamed event");
+        this.eventRepository.save(existingEvent);
+
+        // When & Then
+        String newETag = this.mockMvc.perform(get("/api/events/{id}", existingEvent.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, Matchers.not(eTag)))
+                .andExpect(jsonPath("name").value("renamed event"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        this.mockMvc.perform(get("/api/events/{id}", existingEvent.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, newETag))
+                .andExpect(status().isNotModified());
+    }
+
+    @DisplayName("Getting an unchanged page of events with its ETag answers 304 Not Modified.")
+    @Test
+    public void getEvents_notModified() throws Exception {
+        // Given
+        Event existingEvent = this.eventRepository.save(this.createSampleEvent());
+        String eTag = this.mockMvc.perform(get("/api/events"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        this.mockMvc.perform(get("/api/events").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        existingEvent.setName("renamed event");
+        this.eventRepository.save(existingEvent);
+        this.mockMvc.perform(get("/api/events").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, Matchers.not(eTag)))
+                .andExpect(jsonPath("_embedded.eventList[0].name").value("renamed event"));
+    }
+
+    @DisplayName("Updating an event with a stale If-Match ETag answers 412 Precondition Failed.")
+    @Test
+    public void updateEvent_staleIfMatch() throws Exception {
+        // Given
+        String email = "manager@email.com";
+        String originalPassword = "manager";
+        Set<UserRole> h = new HashSet<>(Arrays.asList(UserRole.USER));
+        User manager = userService.createUser(
+                User.builder().email(email).password(originalPassword).roles(h).build()
+        );
+        Event sampleEvent = this.createSampleEvent();
+        sampleEvent.setManager(manager);
+        Event existingEvent = this.eventRepository.save(sampleEvent);
+        String accessToken = getAccessToken(manager, originalPassword);
+        EventDto.CreateOrUpdate eventDto = createEventDto();
+        eventDto.setName("renamed event");
+
+        String eTag = this.mockMvc.perform(get("/api/events/{id}", existingEvent.getId())
+                .header(HttpHeaders.AUTHORIZATION, bearer(accessToken)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        String newETag = this.mockMvc.perform(put("/api/events/{id}", existingEvent.getId())
+                .header(HttpHeaders.AUTHORIZATION, bearer(accessToken))
+                .header(HttpHeaders.IF_MATCH, eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(eventDto)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, Matchers.not(eTag)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        this.mockMvc.perform(put("/api/events/{id}", existingEvent.getId())
+                .header(HttpHeaders.AUTHORIZATION, bearer(accessToken))
+                .header(HttpHeaders.IF_MATCH, eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(eventDto)))
+                .andExpect(status().isPreconditionFailed());
+
+        this.mockMvc.perform(get("/api/events/{id}", existingEvent.getId())
+                .header(HttpHeaders.AUTHORIZATION, bearer(accessToken))
+                .header(HttpHeaders.IF_NONE_MATCH, newETag))
+                .andExpect(status().isNotModified());
+    }
+
+    @DisplayName("Manager can publish a draft event once.")
+    @Test
+    public void publishEvent() throws Exception {
+        // Given
+        String email = "manager@email.com";
+        String originalPassword = "manager";
+        Set<UserRole> h = new HashSet<>(Arrays.asList(UserRole.USER));
+        User manager = userService.createUser(
+                User.builder().email(email).password(originalPassword).roles(h).build()
+        );
+        Event sampleEvent = this.createSampleEvent();
+        sampleEvent.setManager(manager);
+        Event existingEvent = this.eventRepository.save(sampleEvent);
+        String accessToken = getAccessToken(manager, originalPassword);
+
+        // When & Then
+        this.mockMvc.perform(RestDocumentationRequestBuilders.post("/api/events/{id}/publish", existingEvent.getId())
+                .header(HttpHeaders.AUTHORIZATION, bearer(accessToken)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("eventStatus").value(EventStatus.PUBLISHED.name()))
+                .andDo(document("publish-event",
+                    relaxedLinks(
+                        linkWithRel("self").description("link to this event."),
+                        linkWithRel("get-events").description("link to all events."),
+                        linkWithRel("update-event").description("Link to update the event"),
+                        linkWithRel("profile").description("link to profile.")
+                    ),
+                    pathParameters(
+                        parameterWithName("id").description("identifier of an Event.")
+                    )
+                ));
+
+        this.mockMvc.perform(post("/api/events/{id}/publish", existingEvent.getId())
+                .header(HttpHeaders.AUTHORIZATION, bearer(accessToken)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("content[0].field").value("eventStatus"));
+
+        User user = userService.createUser(
+                User.builder().email("user@email.com").password("user").roles(h).build()
+        );
+        this.mockMvc.perform(post("/api/events/{id}/publish", existingEvent.getId())
+                .header(HttpHeaders.AUTHORIZATION, bearer(getAccessToken(user, "user"))))
+                .andExpect(status().isForbidden());
+    }
+
+    @DisplayName("Get several events by id in one call, reporting missing ids inline")
+    @Test
+    public void getEventsByIds() throws Exception {
+        // Given
+        Event first = this.eventRepository.save(this.createSampleEvent());
+        Event second = this.eventRepository.save(this.createSampleEvent());
+        Cache events = cacheManager.getCache(CacheConfig.EVENTS);
+        this.mockMvc.perform(get("/api/events/{id}", second.getId())).andExpect(status().isOk());
+        assertThat(events.get(second.getId())).isNotNull();
+        int missing = second.getId() + 1000;
+
+        // When & Then
+        this.mockMvc.perform(RestDocumentationRequestBuilders.get("/api/events")
+                .param("ids", second.getId() + "," + missing + "," + first.getId() + "," + second.getId()))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(2))
+                .andExpect(jsonPath("_embedded.eventList[0].id").value(second.getId()))
+                .andExpect(jsonPath("_embedded.eventList[1].id").value(first.getId()))
+                .andExpect(jsonPath("_embedded.eventList[1]._links.self.href").isNotEmpty())
+                .andExpect(jsonPath("missing").value(Matchers.contains(missing)))
+                .andDo(document("multi-get-events",
+                    links(
+                        linkWithRel("self").description("Link to self"),
+                        linkWithRel("profile").description("Link to profile")
+                    ),
+                    requestParameters(
+                        parameterWithName("ids").description("comma separated identifiers of events, at most " + EventController.MAX_BATCH_IDS)
+                    ),
+                    relaxedResponseFields(
+                        fieldWithPath("_embedded.eventList").description("found events in the requested order, same as getting each event"),
+                        fieldWithPath("missing").description("requested identifiers without an event")
+                    )
+                ));
+        assertThat(events.get(first.getId())).isNotNull();
+
+        this.mockMvc.perform(get("/api/events").param("ids", ""))
+                .andExpect(status().isBadRequest());
+    }
+
+    @DisplayName("Stream event changes after a sequence as server-sent events")
+    @Test
+    public void streamEventChanges() throws Exception {
+        // Given
+        override(appEventProperties::getFeedTimeout, appEventProperties::setFeedTimeout, Duration.ofMillis(500));
+        long after = eventChangeFeed.lastSequence();
+        this.mockMvc.perform(post("/api/events/")
+                .header(HttpHeaders.AUTHORIZATION, bearer(getAccessToken()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(createEventDto())))
+                .andExpect(status().isCreated());
+
+        // When
+        MvcResult result = this.mockMvc.perform(get("/api/events/changes")
+                .header("Last-Event-ID", after)
+                .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        result.getAsyncResult(5000);
+
+        // Then
+        assertThat(result.getResponse().getContentType()).startsWith(MediaType.TEXT_EVENT_STREAM_VALUE);
+        assertThat(result.getResponse().getContentAsString())
+                .contains("id:" + (after + 1))
+                .contains("event:CREATED")
+                .contains("\"eventStatus\":\"DRAFT\"");
+        this.mockMvc.perform(get("/api/events/changes")
+                .param("after", String.valueOf(after + 1000))
+                .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isGone());
+    }
+
+    @DisplayName("The change stream is not cut by the async request timeout but ends after the feed timeout")
+    @Test
+    public void streamEventChangesEndsAfterFeedTimeout() throws Exception {
+        // Given
+        override(appEventProperties::getFeedTimeout, appEventProperties::setFeedTimeout, Duration.ofMillis(200));
+
+        // When
+        MvcResult result = this.mockMvc.perform(get("/api/events/changes")
+                .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        assertThat(result.getRequest().getAsyncContext().getTimeout()).isLessThanOrEqualTo(0);
+        result.getAsyncResult(5000);
+        assertThat(eventChangeFeed.subscriberCount()).isZero();
+    }
+
+    @DisplayName("Streams are written by the bounded task executor, not a thread per write")
+    @Test
+    public void streamOnBoundedExecutor() {
+        // When
+        Object taskExecutor = ReflectionTestUtils.getField(requestMappingHandlerAdapter, "taskExecutor");
+
+        // Then
+        assertThat(taskExecutor).isInstanceOf(ThreadPoolTaskExecutor.class);
+        ThreadPoolTaskExecutor executor = (ThreadPoolTaskExecutor) taskExecutor;
+        assertThat(executor.getMaxPoolSize()).isEqualTo(32);
+        assertThat(executor.getThreadPoolExecutor().getQueue().remainingCapacity()).isLessThanOrEqualTo(10000);
+    }
+
+    @DisplayName("Enroll in an open event up to its limit")
+    @Test
+    public void enrollEvent() throws Exception {
+        // Given
+        Set<UserRole> h = new HashSet<>(Arrays.asList(UserRole.USER));
+        User user = userService.createUser(User.builder().email("user@email.com").password("user").roles(h).build());
+        User other = userService.createUser(User.builder().email("other@email.com").password("other").roles(h).build());
+        Event sampleEvent = this.createSampleEvent();
+        sampleEvent.setBeginEnrollmentDateTime(LocalDateTime.now().minusDays(1));
+        sampleEvent.setCloseEnrollmentDateTime(LocalDateTime.now().plusDays(1));
+        sampleEvent.setLimitOfEnrollment(1);
+        sampleEvent.setEventStatus(EventStatus.BEGAN_ENROLLMENT);
+        Event existingEvent = this.eventRepository.save(sampleEvent);
+        String accessToken = getAccessToken(user, "user");
+
+        // When & Then
+        this.mockMvc.perform(RestDocumentationRequestBuilders.post("/api/events/{id}/enrollments", existingEvent.getId())
+                .header(HttpHeaders.AUTHORIZATION, bearer(accessToken)))
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("eventId").value(existingEvent.getId()))
+                .andExpect(jsonPath("userId").value(user.getId()))
+                .andDo(document("enroll-event",
+                    links(
+                        linkWithRel("event").description("link to the event."),
+                        linkWithRel("profile").description("link to profile.")
+                    ),
+                    pathParameters(
+                        parameterWithName("id").description("identifier of an Event.")
+                    )
+                ));
+
+        this.mockMvc.perform(post("/api/events/{id}/enrollments", existingEvent.getId())
+                .header(HttpHeaders.AUTHORIZATION, bearer(accessToken)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("content[0].field").value("id"));
+
+        this.mockMvc.perform(post("/api/events/{id}/enrollments", existingEvent.getId())
+                .header(HttpHeaders.AUTHORIZATION, bearer(getAccessToken(other, "other"))))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("content[0].field").value("limitOfEnrollment"));
+
+        Event draft = this.eventRepository.save(this.createSampleEvent());
+        this.mockMvc.perform(post("/api/events/{id}/enrollments", draft.getId())
+                .header(HttpHeaders.AUTHORIZATION, bearer(accessToken)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("content[0].field").value("eventStatus"));
+    }
+
     @DisplayName("deleteEvent : 삭제 테스트")
     @Test
     public void deleteEvent() throws Exception {
@@ -0,0 +1,92 @@
+package me.kalpha.natural.event;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import me.kalpha.natural.common.AppEventProperties;
+import me.kalpha.natural.common.BaseControllerTests;
+import me.kalpha.natural.common.EventFixtures;
+import me.kalpha.natural.configs.CacheConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EventLifecycleTest extends BaseControllerTests {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2018, 11, 1, 12, 0);
+
+    @Autowired
+    EventLifecycle eventLifecycle;
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    EventService eventService;
+
+    @Autowired
+    AppEventProperties appEventProperties;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Autowired
+    CacheManager cacheManager;
+
+    @BeforeEach
+    public void setUp() {
+        this.eventRepository.deleteAll();
+    }
+
+    @DisplayName("Due events move through every status they have passed, in batches")
+    @Test
+    public void advanceDueEvents() {
+        // Given
+        override(appEventProperties::getLifecycleBatchSize, appEventProperties::setLifecycleBatchSize, 1);
+        Event enrolling = eventRepository.save(event(EventStatus.PUBLISHED));
+        Event closing = eventRepository.save(event(EventStatus.PUBLISHED));
+        Event draft = eventRepository.save(event(EventStatus.DRAFT));
+        Event upcoming = event(EventStatus.PUBLISHED);
+        upcoming.setBeginEnrollmentDateTime(NOW.plusDays(1));
+        upcoming = eventRepository.save(upcoming);
+        closing.setCloseEnrollmentDateTime(NOW.minusHours(1));
+        closing = eventRepository.save(closing);
+
+        Cache events = cacheManager.getCache(CacheConfig.EVENTS);
+        eventService.getEvent(enrolling.getId());
+        double transitions = transitions(EventStatus.BEGAN_ENROLLMENT);
+
+        // When
+        int moved = eventLifecycle.advance(NOW);
+
+        // Then
+        assertThat(moved).isEqualTo(3);
+        assertThat(status(enrolling)).isEqualTo(EventStatus.BEGAN_ENROLLMENT);
+        assertThat(status(closing)).isEqualTo(EventStatus.CLOSED_ENROLLMENT);
+        assertThat(status(draft)).isEqualTo(EventStatus.DRAFT);
+        assertThat(status(upcoming)).isEqualTo(EventStatus.PUBLISHED);
+        assertThat(eventRepository.findById(closing.getId()).get().getVersion()).isEqualTo(closing.getVersion() + 2);
+        assertThat(events.get(enrolling.getId())).isNull();
+        assertThat(transitions(EventStatus.BEGAN_ENROLLMENT) - transitions).isEqualTo(2);
+        assertThat(meterRegistry.get("event.lifecycle.lag").tag("status", "CLOSED_ENROLLMENT").timer().count())
+                .isPositive();
+        assertThat(eventLifecycle.advance(NOW)).isZero();
+    }
+
+    private double transitions(EventStatus status) {
+        return meterRegistry.counter("event.lifecycle.transitions", "status", status.name()).count();
+    }
+
+    private EventStatus status(Event event) {
+        return eventRepository.findById(event.getId()).get().getEventStatus();
+    }
+
+    private Event event(EventStatus status) {
+        return EventFixtures.event("lifecycle event", status);
+    }
+}
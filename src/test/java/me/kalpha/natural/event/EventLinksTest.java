@@ -0,0 +1,61 @@
+package me.kalpha.natural.event;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+public class EventLinksTest {
+
+    @AfterEach
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @DisplayName("Expanded links are identical to the ones built by WebMvcLinkBuilder")
+    @Test
+    public void sameLinksAsLinkBuilder() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/events");
+        request.setServerPort(8000);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        // When
+        EventLinks links = EventLinks.current();
+
+        // Then
+        assertThat(links.self(7)).isEqualTo(linkTo(EventController.class).slash(7).withSelfRel());
+        assertThat(links.update(7)).isEqualTo(linkTo(EventController.class).slash(7).withRel("update-event"));
+        assertThat(links.delete(7)).isEqualTo(linkTo(EventController.class).slash(7).withRel("delete-event"));
+        assertThat(links.events()).isEqualTo(linkTo(EventController.class).withRel("get-events"));
+        // methodOn links also carry affordances, which HAL does not render
+        assertThat(links.createEvent().getHref())
+                .isEqualTo(linkTo(methodOn(EventController.class).create(null, null, null)).withRel("create-new-event").getHref());
+        assertThat(links.uri(7)).isEqualTo(linkTo(methodOn(EventController.class).get(7, null, null)).toUri());
+        assertThat(links.self(7).getHref()).isEqualTo("http://localhost:8000/api/events/7");
+    }
+
+    @DisplayName("Links follow the base URI of each request")
+    @Test
+    public void linksPerBaseUri() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/events");
+        request.setServerName("events.example.com");
+        request.setServerPort(443);
+        request.setScheme("https");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        // When
+        EventLinks links = EventLinks.current();
+
+        // Then
+        assertThat(links.self(7).getHref()).isEqualTo("https://events.example.com/api/events/7");
+        assertThat(EventLinks.current()).isSameAs(links);
+    }
+}
@@ -0,0 +1,80 @@
+package me.kalpha.natural.event;
+
+import me.kalpha.natural.user.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EventMapperTest {
+
+    private final EventMapper eventMapper = new EventMapper();
+
+    private final ModelMapper modelMapper = new ModelMapper();
+
+    @DisplayName("Map a new event the same way ModelMapper does")
+    @Test
+    public void toEventMatchesModelMapper() {
+        // Given
+        EventDto.CreateOrUpdate eventDto = fullEventDto();
+
+        // When
+        Event event = eventMapper.toEvent(eventDto);
+
+        // Then
+        assertThat(event).usingRecursiveComparison().isEqualTo(modelMapper.map(eventDto, Event.class));
+        assertThat(event.getEventStatus()).isEqualTo(EventStatus.DRAFT);
+    }
+
+    @DisplayName("Overwrite an existing event with nulls the same way ModelMapper does")
+    @Test
+    public void copyMatchesModelMapper() {
+        // Given
+        EventDto.CreateOrUpdate eventDto = EventDto.CreateOrUpdate.builder()
+                .name("updated event")
+                .beginEnrollmentDateTime(LocalDateTime.of(2019, 1, 1, 0, 0))
+                .closeEnrollmentDateTime(LocalDateTime.of(2019, 1, 2, 0, 0))
+                .beginEventDateTime(LocalDateTime.of(2019, 1, 3, 0, 0))
+                .endEventDateTime(LocalDateTime.of(2019, 1, 4, 0, 0))
+                .build();
+        Event mapped = existingEvent();
+        Event expected = existingEvent();
+
+        // When
+        eventMapper.copy(eventDto, mapped);
+        modelMapper.map(eventDto, expected);
+
+        // Then
+        assertThat(mapped).usingRecursiveComparison().isEqualTo(expected);
+        assertThat(mapped.getId()).isEqualTo(10);
+        assertThat(mapped.getManager().getId()).isEqualTo(1);
+        assertThat(mapped.getDescription()).isNull();
+        assertThat(mapped.getMaxPrice()).isNull();
+    }
+
+    private Event existingEvent() {
+        Event event = eventMapper.toEvent(fullEventDto());
+        event.setId(10);
+        event.setEventStatus(EventStatus.PUBLISHED);
+        event.setManager(User.builder().id(1).email("manager@email.com").build());
+        return event;
+    }
+
+    private EventDto.CreateOrUpdate fullEventDto() {
+        return EventDto.CreateOrUpdate.builder()
+                .name("test event")
+                .description("testing event apis")
+                .beginEnrollmentDateTime(LocalDateTime.of(2018, 10, 15, 0, 0))
+                .closeEnrollmentDateTime(LocalDateTime.of(2018, 11, 3, 23, 59))
+                .beginEventDateTime(LocalDateTime.of(2018, 11, 10, 9, 0))
+                .endEventDateTime(LocalDateTime.of(2018, 11, 10, 14, 0))
+                .location("Inflean")
+                .basePrice(50000)
+                .maxPrice(10000)
+                .limitOfEnrollment(100)
+                .build();
+    }
+}
@@ -0,0 +1,147 @@
+package me.kalpha.natural.event;
+
+import me.kalpha.natural.common.EventFixtures;
+import me.kalpha.natural.user.User;
+import me.kalpha.natural.user.UserRole;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class EventRepositoryTest {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            User manager = entityManager.persist(User.builder()
+                    .email("manager" + i + "@email.com")
+                    .password("pass")
+                    .roles(new HashSet<>(Arrays.asList(UserRole.USER)))
+                    .build());
+            entityManager.persist(EventFixtures.event("event " + i, manager));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @DisplayName("Load a page of events with their managers in a bounded number of statements")
+    @Test
+    public void findAllPageLoadsManagersWithoutNPlusOne() {
+        // When
+        Page<Event> page = eventRepository.findAll(PageRequest.of(0, PAGE_SIZE, Sort.by("id")));
+
+        // Then
+        assertThat(page.getContent()).hasSize(PAGE_SIZE);
+        assertThat(page.getContent()).allMatch(e -> e.getManager().getRoles().contains(UserRole.USER));
+        // page select with managers, count, batched roles
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @DisplayName("Load events by id with their managers in one statement")
+    @Test
+    public void findAllByIdLoadsManagers() {
+        // Given
+        List<Integer> ids = eventRepository.findAll(PageRequest.of(0, 10, Sort.by("id"))).map(Event::getId).getContent();
+        entityManager.clear();
+        statistics.clear();
+
+        // When
+        List<Event> events = eventRepository.findAllById(ids);
+
+        // Then
+        assertThat(events).hasSize(10);
+        assertThat(events).allMatch(e -> e.getManager().getEmail() != null);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @DisplayName("Load a page of event summaries without loading descriptions or managers")
+    @Test
+    public void findAllSummariesSkipsManagers() {
+        // When
+        Page<EventSummary> page = eventRepository.findAllSummaries(new EventFilter(), PageRequest.of(0, PAGE_SIZE, Sort.by("id")));
+
+        // Then
+        assertThat(page.getContent()).hasSize(PAGE_SIZE);
+        assertThat(page.getContent()).allMatch(s -> s.getManager().getId() != null && s.getVersion() != null);
+        // summary select, count
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @DisplayName("Filter events by status, dates, prices, flags and manager")
+    @Test
+    public void findAllFiltered() {
+        // Given
+        Event published = eventRepository.findAll(PageRequest.of(0, 1, Sort.by("id"))).getContent().get(0);
+        published.setEventStatus(EventStatus.PUBLISHED);
+        published.setBasePrice(100);
+        published.setMaxPrice(200);
+        published.setLocation("Gangnam");
+        published.update();
+        eventRepository.saveAndFlush(published);
+
+        EventFilter filter = new EventFilter();
+        filter.setEventStatus(EventStatus.PUBLISHED);
+        filter.setFrom(LocalDateTime.of(2018, 11, 10, 0, 0));
+        filter.setTo(LocalDateTime.of(2018, 11, 11, 0, 0));
+        filter.setPriceFrom(50);
+        filter.setPriceTo(200);
+        filter.setFree(false);
+        filter.setOffLine(true);
+        filter.setManager(published.getManager().getId());
+
+        // When
+        Page<EventSummary> summaries = eventRepository.findAllSummaries(filter, PageRequest.of(0, PAGE_SIZE));
+        Page<Event> events = eventRepository.findAll(filter, PageRequest.of(0, PAGE_SIZE));
+        filter.setPriceTo(150);
+        Page<EventSummary> none = eventRepository.findAllSummaries(filter, PageRequest.of(0, PAGE_SIZE));
+
+        // Then
+        assertThat(summaries.getContent()).extracting(EventSummary::getId).containsExactly(published.getId());
+        assertThat(summaries.getTotalElements()).isEqualTo(1);
+        assertThat(events.getContent()).extracting(Event::getId).containsExactly(published.getId());
+        assertThat(none.getContent()).isEmpty();
+    }
+
+    @DisplayName("Load a keyset page of events with their managers in a bounded number of statements")
+    @Test
+    public void findAllAfterLoadsManagersWithoutNPlusOne() {
+        // When
+        List<Event> events = eventRepository.findAllAfter(new EventFilter(), EventCursor.first(Sort.unsorted()), PAGE_SIZE);
+
+        // Then
+        assertThat(events).hasSize(PAGE_SIZE);
+        assertThat(events).allMatch(e -> e.getManager().getRoles().contains(UserRole.USER));
+        // keyset select with managers, batched roles
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+}
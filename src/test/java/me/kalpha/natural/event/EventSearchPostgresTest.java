@@ -0,0 +1,79 @@
+package me.kalpha.natural.event;
+
+import me.kalpha.natural.common.EventFixtures;
+import me.kalpha.natural.user.User;
+import me.kalpha.natural.user.UserRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+public class EventSearchPostgresTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:12-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @DisplayName("Rank full-text matches on name above matches on description")
+    @Test
+    public void searchRanksByTsRank() {
+        // Given
+        User manager = entityManager.persist(User.builder()
+                .email("manager@email.com")
+                .password("pass")
+                .roles(new HashSet<>(Arrays.asList(UserRole.USER)))
+                .build());
+        Event inDescription = entityManager.persist(event("Spring meetup", "hands-on kotlin coroutines", manager));
+        Event inName = entityManager.persist(event("kotlin study", "weekly study", manager));
+        entityManager.persist(event("java study", "weekly study", manager));
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        Slice<EventSummary> result = eventRepository.search("kotlin", PageRequest.of(0, 10));
+
+        // Then
+        assertThat(result.getContent()).extracting(EventSummary::getId)
+                .containsExactly(inName.getId(), inDescription.getId());
+        Object description = entityManager.getEntityManager()
+                .createNativeQuery("select description from event where id = :id")
+                .setParameter("id", inDescription.getId())
+                .getSingleResult();
+        assertThat(description).isEqualTo("hands-on kotlin coroutines");
+    }
+
+    private Event event(String name, String description, User manager) {
+        Event event = EventFixtures.event(name, manager);
+        event.setDescription(description);
+        return event;
+    }
+}
@@ -0,0 +1,161 @@
+package me.kalpha.natural.outbox;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import me.kalpha.natural.common.AppOutboxProperties;
+import me.kalpha.natural.common.BaseControllerTests;
+import me.kalpha.natural.common.EventFixtures;
+import me.kalpha.natural.event.Event;
+import me.kalpha.natural.event.EventRepository;
+import me.kalpha.natural.event.EventService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OutboxDispatcherTest extends BaseControllerTests {
+
+    @Autowired
+    OutboxDispatcher outboxDispatcher;
+
+    @Autowired
+    OutboxRepository outboxRepository;
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    EventService eventService;
+
+    @Autowired
+    AppOutboxProperties appOutboxProperties;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @BeforeEach
+    public void setUp() {
+        this.outboxRepository.deleteAll();
+    }
+
+    @DisplayName("Publishing an event records an outbox message in the same transaction")
+    @Test
+    public void publishWritesOutboxMessage() {
+        // Given
+        Event event = eventRepository.save(event());
+
+        // When
+        Event published = eventService.publishEvent(event);
+
+        // Then
+        List<OutboxMessage> messages = outboxRepository.findAll();
+        assertThat(messages).hasSize(1);
+        OutboxMessage message = messages.get(0);
+        assertThat(message.getType()).isEqualTo(EventService.EVENT_PUBLISHED);
+        assertThat(message.getAggregateId()).isEqualTo(published.getId());
+        assertThat(message.getDedupeKey())
+                .isEqualTo("EventPublished:" + published.getId() + ":" + published.getVersion());
+        assertThat(message.getPayload()).contains("\"eventStatus\":\"PUBLISHED\"");
+        assertThat(message.getDispatchedAt()).isNull();
+    }
+
+    @DisplayName("Pending messages are delivered in id order and batches, then marked dispatched")
+    @Test
+    public void dispatchInBatches() {
+        // Given
+        override(appOutboxProperties::getBatchSize, appOutboxProperties::setBatchSize, 2);
+        for (int i = 0; i < 3; i++) {
+            eventService.publishEvent(eventRepository.save(event()));
+        }
+        List<List<String>> batches = new ArrayList<>();
+        double dispatched = meterRegistry.counter("outbox.dispatched").count();
+
+        // When
+        int sent = outboxDispatcher.dispatch(messages ->
+                batches.add(messages.stream().map(OutboxMessage::getDedupeKey).collect(Collectors.toList())));
+
+        // Then
+        assertThat(sent).isEqualTo(3);
+        assertThat(batches).extracting(List::size).containsExactly(2, 1);
+        assertThat(outboxRepository.findAll()).allMatch(m -> m.getDispatchedAt() != null);
+        assertThat(meterRegistry.counter("outbox.dispatched").count() - dispatched).isEqualTo(3);
+        assertThat(outboxDispatcher.dispatch(messages -> batches.add(null))).isZero();
+    }
+
+    @DisplayName("A failed message waits out its backoff and is delivered again on a later round")
+    @Test
+    public void redeliverAfterSinkFailure() {
+        // Given
+        override(appOutboxProperties::getBackoff, appOutboxProperties::setBackoff, Duration.ofSeconds(10));
+        eventService.publishEvent(eventRepository.save(event()));
+        List<String> delivered = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+
+        // When
+        int failed = outboxDispatcher.dispatch(messages -> {
+            throw new IllegalStateException("sink unavailable");
+        }, now);
+        int tooEarly = outboxDispatcher.dispatch(messages ->
+                messages.forEach(m -> delivered.add(m.getDedupeKey())), now.plusSeconds(5));
+        int sent = outboxDispatcher.dispatch(messages ->
+                messages.forEach(m -> delivered.add(m.getDedupeKey())), now.plusSeconds(10));
+
+        // Then
+        assertThat(failed).isZero();
+        assertThat(tooEarly).isZero();
+        assertThat(sent).isEqualTo(1);
+        assertThat(delivered).hasSize(1);
+        OutboxMessage message = outboxRepository.findAll().get(0);
+        assertThat(message.getAttempts()).isEqualTo(1);
+        assertThat(message.getDispatchedAt()).isNotNull();
+    }
+
+    @DisplayName("A message the sink keeps rejecting does not hold back later messages and ends up dead")
+    @Test
+    public void parkAndDeadLetterPoisonMessage() {
+        // Given
+        override(appOutboxProperties::getMaxAttempts, appOutboxProperties::setMaxAttempts, 2);
+        override(appOutboxProperties::getBackoff, appOutboxProperties::setBackoff, Duration.ofSeconds(1));
+        for (int i = 0; i < 3; i++) {
+            eventService.publishEvent(eventRepository.save(event()));
+        }
+        List<OutboxMessage> pending = outboxRepository.findAll();
+        Long poison = pending.get(0).getId();
+        List<Long> delivered = new ArrayList<>();
+        OutboxSink sink = messages -> {
+            if (messages.stream().anyMatch(m -> m.getId().equals(poison))) {
+                throw new IllegalStateException("cannot encode message " + poison);
+            }
+            messages.forEach(m -> delivered.add(m.getId()));
+        };
+        double dead = meterRegistry.counter("outbox.dead").count();
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+
+        // When
+        int first = outboxDispatcher.dispatch(sink, now);
+        int second = outboxDispatcher.dispatch(sink, now.plusSeconds(1));
+        int third = outboxDispatcher.dispatch(sink, now.plusHours(1));
+
+        // Then
+        assertThat(first).isEqualTo(2);
+        assertThat(second).isZero();
+        assertThat(third).isZero();
+        assertThat(delivered).containsExactly(pending.get(1).getId(), pending.get(2).getId());
+        OutboxMessage message = outboxRepository.findById(poison).get();
+        assertThat(message.getAttempts()).isEqualTo(2);
+        assertThat(message.getDispatchedAt()).isNull();
+        assertThat(message.getDeadAt()).isEqualTo(now.plusSeconds(1));
+        assertThat(meterRegistry.counter("outbox.dead").count() - dead).isEqualTo(1);
+    }
+
+    private Event event() {
+        return EventFixtures.event("outbox event");
+    }
+}
@@ -0,0 +1,133 @@
+package me.kalpha.natural.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.kalpha.natural.common.AppSecurityProperties;
+import me.kalpha.natural.event.EventDto;
+import me.kalpha.natural.user.User;
+import me.kalpha.natural.user.UserRole;
+import me.kalpha.natural.user.UserService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.json.JacksonJsonParser;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.oauth2.provider.token.TokenStore;
+import org.springframework.security.oauth2.provider.token.store.JwtTokenStore;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "app-security.token-mode=jwt",
+        "app-security.jwt-signing-key=test-signing-key",
+        "spring.datasource.url=jdbc:h2:mem:jwtdb",
+        "spring.datasource.hikari.jdbc-url=jdbc:h2:mem:jwtdb"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class JwtTokenModeTests {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    TokenStore tokenStore;
+
+    @Autowired
+    AppSecurityProperties appSecurityProperties;
+
+    @DisplayName("Issue a signed token and resolve the current user from its claims")
+    @Test
+    public void createEventWithJwt() throws Exception {
+        // Given
+        assertThat(tokenStore).isInstanceOf(JwtTokenStore.class);
+        String accessToken = getAccessToken("jwt@email.com", "pass");
+        assertThat(accessToken.split("\\.")).hasSize(3);
+
+        // When
+        String response = mockMvc.perform(post("/api/events")
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(createEventDto())))
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        Object id = new JacksonJsonParser().parseMap(response).get("id");
+
+        // Then
+        mockMvc.perform(get("/api/events/{id}", id)
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_links.update-event").exists())
+                .andExpect(jsonPath("_links.delete-event").exists());
+    }
+
+    @DisplayName("Reject a token whose signature does not match")
+    @Test
+    public void rejectTamperedJwt() throws Exception {
+        String accessToken = getAccessToken("tampered@email.com", "pass");
+
+        mockMvc.perform(post("/api/events")
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken + "x")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(createEventDto())))
+                .andDo(print())
+                .andExpect(status().isUnauthorized());
+    }
+
+    private String getAccessToken(String email, String password) throws Exception {
+        userService.createUser(User.builder()
+                .email(email)
+                .password(password)
+                .roles(new HashSet<>(Arrays.asList(UserRole.USER)))
+                .build());
+
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        params.add("grant_type", "password");
+        params.add("username", email);
+        params.add("password", password);
+
+        String response = mockMvc.perform(post("/oauth/token")
+                    .params(params)
+                    .with(httpBasic(appSecurityProperties.getDefaultClientId(), appSecurityProperties.getDefaultClientSecret())))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return new JacksonJsonParser().parseMap(response).get("access_token").toString();
+    }
+
+    private EventDto.CreateOrUpdate createEventDto() {
+        return EventDto.CreateOrUpdate.builder()
+                .name("jwt event")
+                .description("testing jwt token mode")
+                .beginEnrollmentDateTime(LocalDateTime.of(2018, 10, 15, 0, 0))
+                .closeEnrollmentDateTime(LocalDateTime.of(2018, 11, 3, 23, 59))
+                .beginEventDateTime(LocalDateTime.of(2018, 11, 10, 9, 0))
+                .endEventDateTime(LocalDateTime.of(2018, 11, 10, 14, 0))
+                .location("Inflean")
+                .basePrice(50000)
+                .maxPrice(10000)
+                .build();
+    }
+}
@@ -0,0 +1,70 @@
+package me.kalpha.natural.user;
+
+import me.kalpha.natural.common.BaseControllerTests;
+import me.kalpha.natural.configs.CacheConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class UserDetailsCacheTests extends BaseControllerTests {
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    CacheManager cacheManager;
+
+    private Cache users;
+
+    @BeforeEach
+    public void setUp() {
+        users = cacheManager.getCache(CacheConfig.USERS);
+        users.clear();
+    }
+
+    @DisplayName("Cache user details by normalized email and evict them when a user is created")
+    @Test
+    public void loadUserByUsernameIsCached() {
+        // Given
+        userService.createUser(user("Cached@email.com"));
+
+        // When
+        UserDetails first = userService.loadUserByUsername("Cached@email.com");
+        UserDetails second = userService.loadUserByUsername("CACHED@EMAIL.COM");
+
+        // Then
+        assertThat(users.get("cached@email.com")).isNotNull();
+        assertThat(((UserAdapter) second).getUser()).isSameAs(((UserAdapter) first).getUser());
+        assertThat(second.getPassword()).isNotEmpty();
+
+        userService.createUser(user("another@email.com"));
+        assertThat(users.get("cached@email.com")).isNull();
+    }
+
+    @DisplayName("Never cache a missing user")
+    @Test
+    public void missingUserIsNotCached() {
+        assertThrows(UsernameNotFoundException.class, () -> userService.loadUserByUsername("missing@email.com"));
+
+        assertThat(users.get("missing@email.com")).isNull();
+    }
+
+    private User user(String email) {
+        return User.builder()
+                .email(email)
+                .password("pass")
+                .roles(new HashSet<>(Arrays.asList(UserRole.USER)))
+                .build();
+    }
+}
@@ -60,4 +60,18 @@ public class UserRepositoryTest {
         assertThat(byEmail).hasValue(existingUser);
     }
 
-}
\ No newline at end of file
+    @DisplayName("Find existing user by email in any case through the normalized email")
+    @Test
+    public void findByEmailIgnoringCase() {
+        // Given
+        User existingUser = userRepository.save(user());
+
+        // When
+        Optional<User> byEmail = userRepository.findByEmailIgnoreCase("KeeSun@Email.com");
+
+        // Then
+        assertThat(existingUser.getNormalizedEmail()).isEqualTo("keesun@email.com");
+        assertThat(byEmail).hasValue(existingUser);
+    }
+
+}